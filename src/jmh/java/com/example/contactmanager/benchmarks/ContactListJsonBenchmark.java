@@ -0,0 +1,37 @@
+package com.example.contactmanager.benchmarks;
+
+import com.example.contactmanager.dto.ContactListResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Serialization of a contact list page, as written by getContactsById and /getContacts
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContactListJsonBenchmark
+{
+    @Param({"5", "100"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+    private ContactListResponse response;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper().writerFor(ContactListResponse.class);
+        response = new ContactListResponse(ContactServiceFixtures.contacts(pageSize), "Contacts fetched successfully", true,
+                0, 1, pageSize);
+    }
+
+    @Benchmark
+    public byte[] serializeContactList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
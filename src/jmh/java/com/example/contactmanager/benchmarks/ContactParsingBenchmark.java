@@ -0,0 +1,56 @@
+package com.example.contactmanager.benchmarks;
+
+import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.model.User;
+import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.example.contactmanager.repositories.UserRepository;
+import com.example.contactmanager.services.ContactDetailsService;
+import ezvcard.Ezvcard;
+import ezvcard.VCard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// vCard to contact mapping, run once per imported card
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContactParsingBenchmark
+{
+    private static final String CARD = "BEGIN:VCARD\n" +
+            "VERSION:4.0\n" +
+            "FN:Mr.John Doe\n" +
+            "TEL;TYPE=cell:03011234567\n" +
+            "TEL;TYPE=work:02131234567\n" +
+            "TEL;TYPE=home:03121234567\n" +
+            "EMAIL;TYPE=home:john.doe@example.com\n" +
+            "EMAIL;TYPE=work:john.doe@company.com\n" +
+            "END:VCARD\n";
+
+    private ContactDetailsService contactDetailsService;
+    private VCard vcard;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        contactDetailsService = ContactServiceFixtures.contactDetailsService(ContactServiceFixtures.stub(ContactDetailsRepository.class),
+                ContactServiceFixtures.stub(UserRepository.class));
+        vcard = Ezvcard.parse(CARD).first();
+        user = new User();
+        user.setId(1L);
+    }
+
+    @Benchmark
+    public ContactDetails parseContactDetails() {
+        return contactDetailsService.parseContactDetails(vcard, user);
+    }
+
+    // Includes reading the card text, as the import does
+    @Benchmark
+    public ContactDetails parseCardText() {
+        return contactDetailsService.parseContactDetails(Ezvcard.parse(CARD).first(), user);
+    }
+}
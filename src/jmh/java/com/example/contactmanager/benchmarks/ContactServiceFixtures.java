@@ -0,0 +1,49 @@
+package com.example.contactmanager.benchmarks;
+
+import com.example.contactmanager.metrics.ContactMetrics;
+import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.example.contactmanager.repositories.ContactTombstoneRepository;
+import com.example.contactmanager.repositories.UserRepository;
+import com.example.contactmanager.services.ChangeSequencer;
+import com.example.contactmanager.services.ContactDetailsService;
+import com.example.contactmanager.services.ContactSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+// Services wired to Mockito stubs, and sample contacts, shared by the benchmarks
+final class ContactServiceFixtures
+{
+    private ContactServiceFixtures() {
+    }
+
+    static ContactDetailsService contactDetailsService(ContactDetailsRepository contactDetailsRepository, UserRepository userRepository) {
+        return new ContactDetailsService(contactDetailsRepository, userRepository, stub(ContactSearchIndex.class),
+                stub(ChangeSequencer.class), stub(ContactTombstoneRepository.class), new ContactMetrics(new SimpleMeterRegistry()),
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    // Stub-only mocks do not record invocations, which would otherwise pile up over millions of benchmark calls
+    // and turn into allocation and GC noise in the results
+    static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    static List<ContactDetails> contacts(int count) {
+        List<ContactDetails> contacts = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ContactDetails contact = new ContactDetails("John" + i, "Doe", "Mr.", "john" + i + ".doe@company.com",
+                    "john" + i + "@example.com", "03121234567", "02131234567", "03011234567");
+            contact.setId(i);
+            contact.setChangeSeq(i);
+            contacts.add(contact);
+        }
+        return contacts;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.contactmanager.benchmarks;
+
+import com.example.contactmanager.model.User;
+import com.example.contactmanager.services.JwtService;
+import com.example.contactmanager.services.VerifiedToken;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+// Token issuing on login and token verification on every authenticated request, as JwtFilter does it
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark
+{
+    private JwtService jwtService;
+    private User user;
+    private UserDetails userDetails;
+    private String token;
+    private VerifiedToken verifiedToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        user = new User("John", "Doe", "john.doe@example.com", "password123");
+        user.setId(1L);
+        userDetails = new org.springframework.security.core.userdetails.User(user.getEmail(), user.getPassword(), new ArrayList<>());
+        token = jwtService.generateToken(user);
+        verifiedToken = jwtService.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    // A token seen for the first time: signature check and claim parsing
+    @Benchmark
+    public boolean verifyAndValidate() {
+        VerifiedToken verified = jwtService.verify(token);
+        return jwtService.validateToken(verified, userDetails);
+    }
+
+    // A token found in VerifiedTokenCache: only the subject and expiry checks
+    @Benchmark
+    public boolean validateVerifiedToken() {
+        return jwtService.validateToken(verifiedToken, userDetails);
+    }
+}
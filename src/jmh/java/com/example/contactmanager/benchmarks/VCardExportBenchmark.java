@@ -0,0 +1,78 @@
+package com.example.contactmanager.benchmarks;
+
+import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.example.contactmanager.repositories.UserRepository;
+import com.example.contactmanager.services.ContactDetailsService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+// Full vCard export of an address book of N contacts, served from a mocked repository in keyset chunks
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VCardExportBenchmark
+{
+    private static final long USER_ID = 1L;
+
+    @Param({"100", "10000"})
+    public int contacts;
+
+    private ContactDetailsService contactDetailsService;
+
+    @Setup
+    public void setUp() {
+        List<ContactDetails> addressBook = ContactServiceFixtures.contacts(contacts);
+        ContactDetailsRepository contactDetailsRepository = ContactServiceFixtures.stub(ContactDetailsRepository.class);
+        UserRepository userRepository = ContactServiceFixtures.stub(UserRepository.class);
+        when(userRepository.findChangeSeqById(USER_ID)).thenReturn(Optional.of((long) contacts));
+        when(contactDetailsRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(USER_ID), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long afterId = invocation.getArgument(1);
+                    Pageable pageable = invocation.getArgument(2);
+                    int from = (int) Math.min(afterId, addressBook.size());
+                    return addressBook.subList(from, Math.min(from + pageable.getPageSize(), addressBook.size()));
+                });
+        contactDetailsService = ContactServiceFixtures.contactDetailsService(contactDetailsRepository, userRepository);
+    }
+
+    @Benchmark
+    public void exportContacts(Blackhole blackhole) throws IOException {
+        contactDetailsService.exportContacts(USER_ID, null).getBody().writeTo(new BlackholeOutputStream(blackhole));
+    }
+
+    private static final class BlackholeOutputStream extends OutputStream
+    {
+        private final Blackhole blackhole;
+
+        BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+            blackhole.consume(len);
+        }
+    }
+}
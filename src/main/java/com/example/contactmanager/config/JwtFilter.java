@@ -1,8 +1,14 @@
 package com.example.contactmanager.config;
 
 import com.example.contactmanager.customexceptions.InvalidJWTAuthenticationException;
+import com.example.contactmanager.services.AuthenticatedUser;
 import com.example.contactmanager.services.CustomUserDetailsService;
 import com.example.contactmanager.services.JwtService;
+import com.example.contactmanager.services.PrincipalCache;
+import com.example.contactmanager.services.VerifiedToken;
+import com.example.contactmanager.services.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,10 +32,26 @@ public class JwtFilter extends OncePerRequestFilter
 
     private final CustomUserDetailsService customUserDetailsService;
 
-    public JwtFilter(JwtService jwtService, CustomUserDetailsService customUserDetailsService)
+    private final PrincipalCache principalCache;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final Timer verifyTimer;
+
+    private final PrometheusScrapeMatcher prometheusScrapeMatcher;
+
+    public JwtFilter(JwtService jwtService, CustomUserDetailsService customUserDetailsService, PrincipalCache principalCache, VerifiedTokenCache verifiedTokenCache,
+                     MeterRegistry meterRegistry, PrometheusScrapeMatcher prometheusScrapeMatcher)
     {
         this.jwtService = jwtService;
         this.customUserDetailsService = customUserDetailsService;
+        this.principalCache = principalCache;
+        this.verifiedTokenCache = verifiedTokenCache;
+        // Only signature verification and claim parsing are timed; token cache hits skip it
+        this.verifyTimer = Timer.builder("contactmanager.jwt.verify")
+                .description("JWT signature verification time")
+                .register(meterRegistry);
+        this.prometheusScrapeMatcher = prometheusScrapeMatcher;
     }
 
     @Override
@@ -38,8 +60,9 @@ public class JwtFilter extends OncePerRequestFilter
         // Get the current request path
         String requestPath = request.getServletPath();
 
-        // Skip token validation for login and signup paths
-        if (requestPath.equals("/login") || requestPath.equals("/signup")) {
+        // Skip token validation for login, signup, the public health endpoint and scrapes on the management port
+        if (requestPath.equals("/login") || requestPath.equals("/signup") || requestPath.equals("/actuator/health")
+                || prometheusScrapeMatcher.matches(request)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -53,13 +76,20 @@ public class JwtFilter extends OncePerRequestFilter
         }
         try {
             token = authHeader.substring(7);
-            userEmail = jwtService.extractEmail(token);
+            VerifiedToken verifiedToken = verifiedTokenCache.getOrVerify(token, t -> verifyTimer.record(() -> jwtService.verify(t)));
+            userEmail = verifiedToken.getSubject();
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(userEmail);
-                if (jwtService.validateToken(token, userDetails)) {
+                UserDetails userDetails = principalCache.getUserFromCache(userEmail);
+                if (userDetails == null) {
+                    userDetails = customUserDetailsService.loadUserByUsername(userEmail);
+                    principalCache.putUserInCache(userDetails);
+                }
+                // The principal's id must agree with the token's verified user_id claim
+                if (jwtService.validateToken(verifiedToken, userDetails) && userDetails instanceof AuthenticatedUser authenticatedUser
+                        && verifiedToken.getUserId() != null && verifiedToken.getUserId() == authenticatedUser.getId()) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails,
-                               null,null);
+                               null,userDetails.getAuthorities());
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                 }
@@ -0,0 +1,29 @@
+package com.example.contactmanager.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+// Prometheus scrapes arriving on the separate management port, which is kept off the public load balancer.
+// They carry no token: a JWT expires within the hour and a scraper cannot log in.
+@Component
+public class PrometheusScrapeMatcher implements RequestMatcher
+{
+    private static final String PROMETHEUS_PATH = "/actuator/prometheus";
+
+    private final int managementPort;
+    private final boolean separatePort;
+
+    public PrometheusScrapeMatcher(@Value("${management.server.port:-1}") int managementPort, @Value("${server.port:8080}") int serverPort)
+    {
+        this.managementPort = managementPort;
+        this.separatePort = managementPort > 0 && managementPort != serverPort;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request)
+    {
+        return separatePort && request.getLocalPort() == managementPort && PROMETHEUS_PATH.equals(request.getServletPath());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.contactmanager.config;
+
+import com.example.contactmanager.model.CacheRegions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+// Active with contactmanager.l2cache.enabled=true (the l2cache profile). Hibernate then keeps
+// ContactDetails rows in local Caffeine caches behind JCache. The caches are created here, bounded in size
+// and age, and handed to Hibernate, so their sizes can be published next to Hibernate's hit and miss counts.
+@Configuration
+@ConditionalOnProperty(name = "contactmanager.l2cache.enabled", havingValue = "true")
+public class SecondLevelCacheConfig
+{
+    private static final List<String> REGIONS = List.of(CacheRegions.CONTACTS);
+
+    @Bean(destroyMethod = "close")
+    CacheManager secondLevelCacheManager(@Value("${contactmanager.l2cache.contacts.max-size:100000}") long contactsMaxSize,
+                                         @Value("${contactmanager.l2cache.ttl:10m}") Duration ttl)
+    {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        createRegion(cacheManager, CacheRegions.CONTACTS, contactsMaxSize, ttl);
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManager secondLevelCacheManager)
+    {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    // Hit, miss and put counts per region come from Hibernate's statistics (hibernate.second.level.cache.*)
+    @Bean
+    MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager)
+    {
+        return registry -> {
+            for (String region : REGIONS) {
+                Cache<?, ?> cache = secondLevelCacheManager.getCache(region).unwrap(Cache.class);
+                Gauge.builder("contactmanager.cache.size", cache, Cache::estimatedSize)
+                        .tag("cache", "l2-" + region)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, long maxSize, Duration ttl)
+    {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
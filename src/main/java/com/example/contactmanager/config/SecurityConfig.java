@@ -1,5 +1,7 @@
 package com.example.contactmanager.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -16,9 +18,12 @@ public class SecurityConfig
 
     private final JwtFilter jwtFilter;
 
-    public SecurityConfig(JwtFilter jwtFilter)
+    private final PrometheusScrapeMatcher prometheusScrapeMatcher;
+
+    public SecurityConfig(JwtFilter jwtFilter, PrometheusScrapeMatcher prometheusScrapeMatcher)
     {
         this.jwtFilter = jwtFilter;
+        this.prometheusScrapeMatcher = prometheusScrapeMatcher;
     }
 
     @Bean
@@ -27,8 +32,18 @@ public class SecurityConfig
                 .cors(Customizer.withDefaults())
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(requests -> requests
+                        // Streamed responses (vCard export) finish on an async dispatch of an already authorised request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                        .permitAll()
                         .requestMatchers("/login", "/signup")
                         .permitAll()
+                        .requestMatchers("/actuator/health")
+                        .permitAll()
+                        .requestMatchers(prometheusScrapeMatcher)
+                        .permitAll()
+                        // Metrics name endpoints, users' traffic and internals; on the application port only admins read them
+                        .requestMatchers("/getContacts", "/getContacts/**", "/actuator/prometheus")
+                        .hasRole("ADMIN")
                         .anyRequest()
                         .authenticated());
         http.sessionManagement(
@@ -40,9 +55,9 @@ public class SecurityConfig
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder()
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry)
     {
-        return new BCryptPasswordEncoder();
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 
 }
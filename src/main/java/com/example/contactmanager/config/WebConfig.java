@@ -16,7 +16,7 @@ public class WebConfig {
                         .allowedOrigins("http://localhost:3002")
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")  // Allow all headers
-                        .exposedHeaders("Access-Control-Allow-Origin", "Access-Control-Allow-Credentials")
+                        .exposedHeaders("Access-Control-Allow-Origin", "Access-Control-Allow-Credentials", "ETag")
                         .allowCredentials(true)
                         .maxAge(3600);
             }
@@ -3,13 +3,21 @@ package com.example.contactmanager.controllers;
 import com.example.contactmanager.dto.*;
 import com.example.contactmanager.model.ContactDetails;
 import com.example.contactmanager.model.User;
+import com.example.contactmanager.services.AuthenticatedUser;
+import com.example.contactmanager.services.ContactBatchService;
 import com.example.contactmanager.services.ContactDetailsService;
+import com.example.contactmanager.services.ContactScanService;
+import com.example.contactmanager.services.ContactSearchService;
+import com.example.contactmanager.services.ImportJobService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Controller
 @CrossOrigin(origins = "http://localhost:3000")
@@ -18,65 +26,120 @@ public class ContactDetailsController
 
     private final ContactDetailsService contactDetailsService;
 
-    public ContactDetailsController(ContactDetailsService contactDetailsService)
+    private final ImportJobService importJobService;
+
+    private final ContactSearchService contactSearchService;
+
+    private final ContactBatchService contactBatchService;
+
+    private final ContactScanService contactScanService;
+
+    public ContactDetailsController(ContactDetailsService contactDetailsService, ImportJobService importJobService, ContactSearchService contactSearchService,
+                                    ContactBatchService contactBatchService, ContactScanService contactScanService)
     {
         this.contactDetailsService = contactDetailsService;
+        this.importJobService = importJobService;
+        this.contactSearchService = contactSearchService;
+        this.contactBatchService = contactBatchService;
+        this.contactScanService = contactScanService;
     }
 
     @PostMapping("/addContact/{userId}")
-    public ResponseEntity<ContactCreateResponse> addContact(@PathVariable long userId,@Valid @RequestBody ContactDetails contactDetails)
+    public ResponseEntity<ContactCreateResponse> addContact(@AuthenticationPrincipal AuthenticatedUser principal, @PathVariable long userId,@Valid @RequestBody ContactDetails contactDetails)
     {
-        return contactDetailsService.createContact(userId,contactDetails);
+        return contactDetailsService.createContact(principal.requireUserId(userId),contactDetails);
     }
 
+    // Admin only (see SecurityConfig)
     @GetMapping("/getContacts")
-    public ResponseEntity<ContactListResponse> getContacts()
+    public ResponseEntity<ContactListResponse> getContacts(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "100") int size)
     {
-        return contactDetailsService.getAllContacts();
+        return contactDetailsService.getAllContacts(page,size);
+    }
+
+    @GetMapping("/getContacts/stream")
+    public ResponseEntity<StreamingResponseBody> streamContacts()
+    {
+        return contactScanService.streamAllContacts();
     }
 
     @PostMapping("/getContactsById")
-    public ResponseEntity<ContactListResponse> getContactsByID(@RequestBody User user , @RequestParam(defaultValue = "0") int page)
+    public ResponseEntity<ContactListResponse> getContactsByID(@AuthenticationPrincipal AuthenticatedUser principal, @RequestBody User user , @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "5") int size,
+                                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+    {
+        long id = principal.requireUserId(user.getId());
+        return contactDetailsService.getContactsById(id,page,size,ifNoneMatch);
+    }
+
+    @GetMapping("/contacts/summaries")
+    public ResponseEntity<ContactSummaryListResponse> getContactSummaries(@AuthenticationPrincipal AuthenticatedUser principal, @RequestParam long userId, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size)
+    {
+        return contactDetailsService.getContactSummaries(principal.requireUserId(userId),page,size);
+    }
+
+    @GetMapping("/contacts/scroll")
+    public ResponseEntity<ContactWindowResponse> scrollContacts(@AuthenticationPrincipal AuthenticatedUser principal, @RequestParam long userId, @RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "20") int size, @RequestParam(defaultValue = "false") boolean includeTotal)
+    {
+        return contactDetailsService.scrollContacts(principal.requireUserId(userId),cursor,size,includeTotal);
+    }
+
+    @GetMapping("/contacts/changes")
+    public ResponseEntity<ContactChangesResponse> getChanges(@AuthenticationPrincipal AuthenticatedUser principal, @RequestParam(defaultValue = "0") long since,
+                                                             @RequestParam(defaultValue = "100") int size)
     {
-        Long id = user.getId();
-        return contactDetailsService.getContactsById(id,page);
+        return contactDetailsService.getChanges(principal.getId(),since,size);
+    }
+
+    @PostMapping("/contacts/batch")
+    public ResponseEntity<ContactBatchResponse> applyBatch(@AuthenticationPrincipal AuthenticatedUser principal, @RequestBody ContactBatchRequest request)
+    {
+        return contactBatchService.applyBatch(principal.getId(),request);
     }
 
     @PostMapping("/deleteContact/{userId}")
-    public ResponseEntity<ContactCreateResponse> deleteContactByID(@PathVariable long userId, @RequestBody ContactDetails contactDetails)
+    public ResponseEntity<ContactCreateResponse> deleteContactByID(@AuthenticationPrincipal AuthenticatedUser principal, @PathVariable long userId, @RequestBody ContactDetails contactDetails)
     {
         long id = contactDetails.getId();
-        return contactDetailsService.deleteContact(userId,id);
+        return contactDetailsService.deleteContact(principal.requireUserId(userId),id);
     }
 
     @PostMapping("/getContactById")
-    public ResponseEntity<ContactDetailResponse> getAContact(@RequestBody ContactDetails contactDetails)
+    public ResponseEntity<ContactDetailResponse> getAContact(@AuthenticationPrincipal AuthenticatedUser principal, @RequestBody ContactDetails contactDetails,
+                                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
     {
         long id = contactDetails.getId();
-        return contactDetailsService.getAContact(id);
+        return contactDetailsService.getAContact(principal.getId(),id,ifNoneMatch);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<SearchResponse> findByName(@RequestParam long userId, @RequestParam String name)
+    public ResponseEntity<SearchResponse> findByName(@AuthenticationPrincipal AuthenticatedUser principal, @RequestParam long userId, @RequestParam String name, @RequestParam(defaultValue = "20") int limit)
     {
-        return contactDetailsService.findByFirstName(userId,name);
+        return contactSearchService.search(principal.requireUserId(userId),name,limit);
     }
 
     @PostMapping("/updateContact/{contactId}")
-    public ResponseEntity<ContactUpdateResponse> contactUpdate (@PathVariable long contactId, @Valid @RequestBody ContactDetails updateContactRequest)
+    public ResponseEntity<ContactUpdateResponse> contactUpdate (@AuthenticationPrincipal AuthenticatedUser principal, @PathVariable long contactId, @Valid @RequestBody ContactDetails updateContactRequest)
     {
-        return contactDetailsService.updateContact(contactId, updateContactRequest);
+        return contactDetailsService.updateContact(principal.getId(), contactId, updateContactRequest);
     }
 
     @GetMapping("/export/{userID}")
-    public ResponseEntity<byte[]> exportContactsAsVcf(@PathVariable long userID)
+    public ResponseEntity<StreamingResponseBody> exportContactsAsVcf(@AuthenticationPrincipal AuthenticatedUser principal, @PathVariable long userID,
+                                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
     {
-        return contactDetailsService.exportContacts(userID);
+        return contactDetailsService.exportContacts(principal.requireUserId(userID),ifNoneMatch);
     }
 
     @PostMapping("/import")
-    public ResponseEntity<ErrorResponse> importContacts(@RequestParam("file") MultipartFile file, @RequestParam("user_id") long userId)
+    public ResponseEntity<ImportJobResponse> importContacts(@AuthenticationPrincipal AuthenticatedUser principal, @RequestParam("file") MultipartFile file, @RequestParam("user_id") long userId)
+    {
+        return importJobService.submitImport(file,principal.requireUserId(userId));
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportJobResponse> importStatus(@AuthenticationPrincipal AuthenticatedUser principal, @PathVariable String jobId)
     {
-        return contactDetailsService.importContacts(file,userId);
+        return importJobService.getImportStatus(principal.getId(),jobId);
     }
 }
@@ -2,9 +2,11 @@ package com.example.contactmanager.controllers;
 
 import com.example.contactmanager.dto.*;
 import com.example.contactmanager.model.User;
+import com.example.contactmanager.services.AuthenticatedUser;
 import com.example.contactmanager.services.UserService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,8 +22,8 @@ public class UserController
     }
 
     @PostMapping("/getDetails/{userId}")
-    public ResponseEntity<User> getUserData(@PathVariable long userId) {
-        return userService.getData(userId);
+    public ResponseEntity<UserProfileResponse> getUserData(@AuthenticationPrincipal AuthenticatedUser principal, @PathVariable long userId) {
+        return userService.getData(principal.requireUserId(userId));
     }
     
 
@@ -0,0 +1,9 @@
+package com.example.contactmanager.customexceptions;
+
+public class ImportJobNotFoundException extends RuntimeException
+{
+    public ImportJobNotFoundException(String message)
+    {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.contactmanager.customexceptions;
+
+public class InvalidCursorException extends RuntimeException
+{
+    public InvalidCursorException(String message)
+    {
+        super(message);
+    }
+}
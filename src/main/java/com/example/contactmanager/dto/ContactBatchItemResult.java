@@ -0,0 +1,72 @@
+package com.example.contactmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ContactBatchItemResult
+{
+    // Position of the operation in the request
+    private int index;
+    private ContactBatchOperation.Type op;
+    private Long id;
+    private int status;
+    private String message;
+    private boolean success;
+
+    public ContactBatchItemResult(int index, ContactBatchOperation.Type op, Long id, int status, String message, boolean success) {
+        this.index = index;
+        this.op = op;
+        this.id = id;
+        this.status = status;
+        this.message = message;
+        this.success = success;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public ContactBatchOperation.Type getOp() {
+        return op;
+    }
+
+    public void setOp(ContactBatchOperation.Type op) {
+        this.op = op;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
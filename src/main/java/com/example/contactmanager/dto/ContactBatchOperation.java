@@ -0,0 +1,47 @@
+package com.example.contactmanager.dto;
+
+import com.example.contactmanager.model.ContactDetails;
+
+public class ContactBatchOperation
+{
+    public enum Type { CREATE, UPDATE, DELETE }
+
+    private Type op;
+    // Target contact of an UPDATE or DELETE
+    private Long id;
+    // New contact details for a CREATE or UPDATE
+    private ContactDetails contact;
+
+    public ContactBatchOperation() {
+    }
+
+    public ContactBatchOperation(Type op, Long id, ContactDetails contact) {
+        this.op = op;
+        this.id = id;
+        this.contact = contact;
+    }
+
+    public Type getOp() {
+        return op;
+    }
+
+    public void setOp(Type op) {
+        this.op = op;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ContactDetails getContact() {
+        return contact;
+    }
+
+    public void setContact(ContactDetails contact) {
+        this.contact = contact;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.contactmanager.dto;
+
+import java.util.List;
+
+public class ContactBatchRequest
+{
+    private List<ContactBatchOperation> operations;
+
+    public ContactBatchRequest() {
+    }
+
+    public ContactBatchRequest(List<ContactBatchOperation> operations) {
+        this.operations = operations;
+    }
+
+    public List<ContactBatchOperation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<ContactBatchOperation> operations) {
+        this.operations = operations;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.contactmanager.dto;
+
+import java.util.List;
+
+public class ContactBatchResponse
+{
+    private List<ContactBatchItemResult> results;
+    private int created;
+    private int updated;
+    private int deleted;
+    private int failed;
+    private String message;
+    private boolean success;
+
+    public ContactBatchResponse(List<ContactBatchItemResult> results, int created, int updated, int deleted, int failed, String message, boolean success) {
+        this.results = results;
+        this.created = created;
+        this.updated = updated;
+        this.deleted = deleted;
+        this.failed = failed;
+        this.message = message;
+        this.success = success;
+    }
+
+    public List<ContactBatchItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<ContactBatchItemResult> results) {
+        this.results = results;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(int deleted) {
+        this.deleted = deleted;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.contactmanager.dto;
+
+import com.example.contactmanager.model.ContactDetails;
+
+import java.util.List;
+
+public class ContactChangesResponse
+{
+    // Contacts created or updated after the requested sequence number, in sequence order
+    private List<ContactDetails> contacts;
+    private List<Long> deletedIds;
+    // Pass as since on the next call
+    private long nextSince;
+    private boolean hasMore;
+    private String message;
+    private boolean success;
+
+    public ContactChangesResponse(List<ContactDetails> contacts, List<Long> deletedIds, long nextSince, boolean hasMore, String message, boolean success) {
+        this.contacts = contacts;
+        this.deletedIds = deletedIds;
+        this.nextSince = nextSince;
+        this.hasMore = hasMore;
+        this.message = message;
+        this.success = success;
+    }
+
+    public List<ContactDetails> getContacts() {
+        return contacts;
+    }
+
+    public void setContacts(List<ContactDetails> contacts) {
+        this.contacts = contacts;
+    }
+
+    public List<Long> getDeletedIds() {
+        return deletedIds;
+    }
+
+    public void setDeletedIds(List<Long> deletedIds) {
+        this.deletedIds = deletedIds;
+    }
+
+    public long getNextSince() {
+        return nextSince;
+    }
+
+    public void setNextSince(long nextSince) {
+        this.nextSince = nextSince;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
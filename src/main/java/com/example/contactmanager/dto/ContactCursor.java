@@ -0,0 +1,61 @@
+package com.example.contactmanager.dto;
+
+import com.example.contactmanager.customexceptions.InvalidCursorException;
+import com.example.contactmanager.model.ContactDetails;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque position in a contact list ordered by (lastName, firstName, id)
+public class ContactCursor
+{
+    private static final String SEPARATOR = "\u0000";
+
+    private final String lastName;
+    private final String firstName;
+    private final long id;
+
+    public ContactCursor(String lastName, String firstName, long id) {
+        this.lastName = lastName;
+        this.firstName = firstName;
+        this.id = id;
+    }
+
+    public static ContactCursor after(ContactDetails contact) {
+        return new ContactCursor(contact.getLastName(), contact.getFirstName(), contact.getId());
+    }
+
+    public static ContactCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return new ContactCursor(parts[0], parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = nullToEmpty(lastName) + SEPARATOR + nullToEmpty(firstName) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.contactmanager.dto;
+
+import java.util.List;
+
+public class ContactSummaryListResponse
+{
+    private List<SearchedContacts> contacts;
+    private String message;
+    private boolean success;
+    private int currentPage;
+    private int totalPages;
+    private long totalItems;
+
+    public ContactSummaryListResponse(List<SearchedContacts> contacts, String message, boolean success, int currentPage, int totalPages, long totalItems) {
+        this.contacts = contacts;
+        this.message = message;
+        this.success = success;
+        this.currentPage = currentPage;
+        this.totalPages = totalPages;
+        this.totalItems = totalItems;
+    }
+
+    public List<SearchedContacts> getContacts() {
+        return contacts;
+    }
+
+    public void setContacts(List<SearchedContacts> contacts) {
+        this.contacts = contacts;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public int getCurrentPage() {
+        return currentPage;
+    }
+
+    public void setCurrentPage(int currentPage) {
+        this.currentPage = currentPage;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    public long getTotalItems() {
+        return totalItems;
+    }
+
+    public void setTotalItems(long totalItems) {
+        this.totalItems = totalItems;
+    }
+}
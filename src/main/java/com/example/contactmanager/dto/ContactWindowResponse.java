@@ -0,0 +1,75 @@
+package com.example.contactmanager.dto;
+
+import com.example.contactmanager.model.ContactDetails;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ContactWindowResponse
+{
+    private List<ContactDetails> contactDetailsList;
+    private String nextCursor;
+    private boolean hasNext;
+    // Only present when the client asked for the total
+    private Long totalItems;
+    private String message;
+    private boolean success;
+
+    public ContactWindowResponse(List<ContactDetails> contactDetailsList, String nextCursor, boolean hasNext, Long totalItems, String message, boolean success) {
+        this.contactDetailsList = contactDetailsList;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.totalItems = totalItems;
+        this.message = message;
+        this.success = success;
+    }
+
+    public List<ContactDetails> getContactDetailsList() {
+        return contactDetailsList;
+    }
+
+    public void setContactDetailsList(List<ContactDetails> contactDetailsList) {
+        this.contactDetailsList = contactDetailsList;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public Long getTotalItems() {
+        return totalItems;
+    }
+
+    public void setTotalItems(Long totalItems) {
+        this.totalItems = totalItems;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
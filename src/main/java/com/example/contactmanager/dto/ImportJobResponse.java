@@ -0,0 +1,88 @@
+package com.example.contactmanager.dto;
+
+public class ImportJobResponse
+{
+    private String jobId;
+    private String status;
+    private long cardsParsed;
+    private long cardsInserted;
+    private long cardsRejected;
+    private double throughput;
+    private String message;
+    private boolean success;
+
+    public ImportJobResponse(String jobId, String status, long cardsParsed, long cardsInserted, long cardsRejected, double throughput, String message, boolean success) {
+        this.jobId = jobId;
+        this.status = status;
+        this.cardsParsed = cardsParsed;
+        this.cardsInserted = cardsInserted;
+        this.cardsRejected = cardsRejected;
+        this.throughput = throughput;
+        this.message = message;
+        this.success = success;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getCardsParsed() {
+        return cardsParsed;
+    }
+
+    public void setCardsParsed(long cardsParsed) {
+        this.cardsParsed = cardsParsed;
+    }
+
+    public long getCardsInserted() {
+        return cardsInserted;
+    }
+
+    public void setCardsInserted(long cardsInserted) {
+        this.cardsInserted = cardsInserted;
+    }
+
+    public long getCardsRejected() {
+        return cardsRejected;
+    }
+
+    public void setCardsRejected(long cardsRejected) {
+        this.cardsRejected = cardsRejected;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public void setThroughput(double throughput) {
+        this.throughput = throughput;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.contactmanager.dto;
 
 public class SearchedContacts
 {
+    private long id;
     private String title;
     private String firstName;
     private String lastName;
@@ -16,6 +17,20 @@ public class SearchedContacts
         this.personalEmail = personalEmail;
     }
 
+    // Used by the list view projection query
+    public SearchedContacts(long id, String title, String firstName, String lastName, String personalPhoneNumber, String personalEmail) {
+        this(title, firstName, lastName, personalPhoneNumber, personalEmail);
+        this.id = id;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
     public String getTitle() {
         return title;
     }
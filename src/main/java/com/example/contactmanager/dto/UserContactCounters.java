@@ -0,0 +1,30 @@
+package com.example.contactmanager.dto;
+
+// The two per-user counters a contact listing needs, read together: its version and its size
+public class UserContactCounters
+{
+    private long changeSeq;
+    private long contactCount;
+
+    public UserContactCounters(long changeSeq, long contactCount)
+    {
+        this.changeSeq = changeSeq;
+        this.contactCount = contactCount;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public long getContactCount() {
+        return contactCount;
+    }
+
+    public void setContactCount(long contactCount) {
+        this.contactCount = contactCount;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.contactmanager.dto;
+
+// Profile header of a user: the account fields and the size of the address book, without the contacts themselves
+public class UserProfileResponse
+{
+    private long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private long contactCount;
+
+    public UserProfileResponse(long id, String firstName, String lastName, String email, long contactCount)
+    {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.contactCount = contactCount;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public long getContactCount() {
+        return contactCount;
+    }
+
+    public void setContactCount(long contactCount) {
+        this.contactCount = contactCount;
+    }
+}
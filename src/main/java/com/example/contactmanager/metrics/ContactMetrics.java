@@ -0,0 +1,56 @@
+package com.example.contactmanager.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Row and byte counts of vCard imports and exports. Rows are counted as contacts, bytes as the size of
+ * the uploaded file or of the written response.
+ */
+@Component
+public class ContactMetrics
+{
+    private final Counter contactsImported;
+    private final Counter contactsRejected;
+    private final DistributionSummary importBytes;
+    private final Counter contactsExported;
+    private final DistributionSummary exportBytes;
+
+    public ContactMetrics(MeterRegistry registry)
+    {
+        this.contactsImported = Counter.builder("contactmanager.import.contacts")
+                .description("Contacts read from imported vCard files")
+                .tag("outcome", "inserted")
+                .register(registry);
+        this.contactsRejected = Counter.builder("contactmanager.import.contacts")
+                .description("Contacts read from imported vCard files")
+                .tag("outcome", "rejected")
+                .register(registry);
+        this.importBytes = DistributionSummary.builder("contactmanager.import.bytes")
+                .description("Size of imported vCard files")
+                .baseUnit("bytes")
+                .register(registry);
+        this.contactsExported = Counter.builder("contactmanager.export.contacts")
+                .description("Contacts written to vCard exports")
+                .register(registry);
+        this.exportBytes = DistributionSummary.builder("contactmanager.export.bytes")
+                .description("Size of vCard exports")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public void importFinished(long bytes, long inserted, long rejected)
+    {
+        importBytes.record(bytes);
+        contactsImported.increment(inserted);
+        contactsRejected.increment(rejected);
+    }
+
+    public void exportFinished(long contacts, long bytes)
+    {
+        contactsExported.increment(contacts);
+        exportBytes.record(bytes);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.contactmanager.metrics;
+
+import com.example.contactmanager.services.PrincipalCache;
+import com.example.contactmanager.services.VerifiedTokenCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig
+{
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor()
+    {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder securityCacheMetrics(PrincipalCache principalCache, VerifiedTokenCache verifiedTokenCache)
+    {
+        return registry -> {
+            bindCache(registry, "principal", principalCache.getCache());
+            bindCache(registry, "token", verifiedTokenCache.getCache());
+        };
+    }
+
+    // Counts come from the caches' recorded stats
+    private static void bindCache(MeterRegistry registry, String name, Cache<?, ?> cache)
+    {
+        Gauge.builder("contactmanager.cache.size", cache, Cache::estimatedSize)
+                .tag("cache", name)
+                .register(registry);
+        FunctionCounter.builder("contactmanager.cache.gets", cache, c -> c.stats().hitCount())
+                .tag("cache", name).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("contactmanager.cache.gets", cache, c -> c.stats().missCount())
+                .tag("cache", name).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("contactmanager.cache.evictions", cache, c -> c.stats().evictionCount())
+                .tag("cache", name)
+                .register(registry);
+    }
+}
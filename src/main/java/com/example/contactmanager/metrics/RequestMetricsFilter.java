@@ -0,0 +1,168 @@
+package com.example.contactmanager.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the number of SQL statements each request executed and the time they took, tagged with the
+ * matched endpoint pattern, and optionally returns both as response headers. Requests over the statement
+ * budget, or repeating one statement past the threshold (an N+1 select), are logged as warnings.
+ * It runs ahead of the security filters so the principal lookup is counted too.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestMetricsFilter extends OncePerRequestFilter
+{
+    public static final String STATEMENT_COUNT_HEADER = "X-DB-Statement-Count";
+    public static final String STATEMENT_TIME_HEADER = "X-DB-Time-Ms";
+
+    private final MeterRegistry registry;
+    private final int statementBudget;
+    private final int repeatedStatementThreshold;
+    private final boolean headersEnabled;
+
+    public RequestMetricsFilter(MeterRegistry registry,
+                                @Value("${contactmanager.db.statement-budget:25}") int statementBudget,
+                                @Value("${contactmanager.db.repeated-statement-threshold:10}") int repeatedStatementThreshold,
+                                @Value("${contactmanager.db.statement-headers.enabled:true}") boolean headersEnabled)
+    {
+        this.registry = registry;
+        this.statementBudget = statementBudget;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+        this.headersEnabled = headersEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        StatementStats stats = RequestStatementCounter.start();
+        StatementHeadersResponse headersResponse = headersEnabled ? new StatementHeadersResponse(response, stats) : null;
+        try {
+            filterChain.doFilter(request, headersResponse != null ? headersResponse : response);
+        } finally {
+            RequestStatementCounter.stop();
+            if (headersResponse != null) {
+                headersResponse.writeHeaders();
+            }
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, StatementStats stats)
+    {
+        String uri = uri(request);
+        DistributionSummary.builder("contactmanager.db.statements")
+                .description("SQL statements executed per request")
+                .tag("uri", uri)
+                .tag("method", request.getMethod())
+                .register(registry)
+                .record(stats.getCount());
+        Timer.builder("contactmanager.db.time")
+                .description("Time spent executing SQL statements per request")
+                .tag("uri", uri)
+                .tag("method", request.getMethod())
+                .register(registry)
+                .record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (statementBudget > 0 && stats.getCount() > statementBudget) {
+            log.warn("{} {} executed {} SQL statements in {} ms, over the budget of {}",
+                    request.getMethod(), uri, stats.getCount(), stats.getElapsedMillis(), statementBudget);
+        }
+        Map.Entry<String, Integer> mostRepeated = stats.mostRepeated();
+        if (repeatedStatementThreshold > 0 && mostRepeated != null && mostRepeated.getValue() >= repeatedStatementThreshold) {
+            log.warn("{} {} executed the same statement {} times, likely an N+1 select: {}",
+                    request.getMethod(), uri, mostRepeated.getValue(), mostRepeated.getKey());
+        }
+    }
+
+    // The handler's pattern keeps the tag bounded; unmatched requests share one value
+    private static String uri(HttpServletRequest request)
+    {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    // Headers must go out before the response is committed, so they are added as soon as the body is opened,
+    // by which point the handler has run its statements
+    private static final class StatementHeadersResponse extends HttpServletResponseWrapper
+    {
+        private final StatementStats stats;
+        private boolean headersWritten;
+
+        StatementHeadersResponse(HttpServletResponse response, StatementStats stats)
+        {
+            super(response);
+            this.stats = stats;
+        }
+
+        void writeHeaders()
+        {
+            if (!headersWritten && !isCommitted()) {
+                headersWritten = true;
+                setHeader(STATEMENT_COUNT_HEADER, Long.toString(stats.getCount()));
+                setHeader(STATEMENT_TIME_HEADER, Long.toString(stats.getElapsedMillis()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException
+        {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException
+        {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException
+        {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException
+        {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException
+        {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException
+        {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.contactmanager.metrics;
+
+/**
+ * SQL statements executed by the current request. The stats are bound to the request thread by
+ * {@link RequestMetricsFilter} and filled in by {@link StatementCountingDataSource}; statements run
+ * outside a request, such as background imports or the body of a streamed export, are not counted.
+ */
+public final class RequestStatementCounter
+{
+    private static final ThreadLocal<StatementStats> CURRENT = new ThreadLocal<>();
+
+    private RequestStatementCounter()
+    {
+    }
+
+    static StatementStats start()
+    {
+        StatementStats stats = new StatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void stop()
+    {
+        CURRENT.remove();
+    }
+
+    public static void executed(String sql, long nanos)
+    {
+        StatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.executed(sql, nanos);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.contactmanager.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Statements executed on behalf of one request: how many, how long they took and how often each SQL string ran
+public class StatementStats
+{
+    private long count;
+    private long elapsedNanos;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+    void executed(String sql, long nanos)
+    {
+        count++;
+        elapsedNanos += nanos;
+        if (sql != null) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public long getCount()
+    {
+        return count;
+    }
+
+    public long getElapsedNanos()
+    {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis()
+    {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    // The SQL run most often, the usual signature of an N+1 select; null when nothing ran
+    public Map.Entry<String, Integer> mostRepeated()
+    {
+        return executionsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.contactmanager.model;
+
+// Second-level cache regions of the cached entities; the caches behind them are created by SecondLevelCacheConfig.
+// User is not cached: every contact write updates its change_seq, which would keep evicting it.
+public final class CacheRegions
+{
+    public static final String CONTACTS = "contacts";
+
+    private CacheRegions()
+    {
+    }
+}
@@ -1,17 +1,25 @@
 package com.example.contactmanager.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "contact_details")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CONTACTS)
+@Table(name = "contact_details", indexes = @Index(name = "idx_contact_details_user_change_seq", columnList = "user_id, change_seq"))
 public class ContactDetails
 {
+    // Pooled sequence ids let Hibernate batch inserts; the name and increment match the existing AUTO sequence
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contact_details_seq")
+    @SequenceGenerator(name = "contact_details_seq", sequenceName = "contact_details_seq", allocationSize = 50)
     private long id;
 
     @NotBlank(message = "First Name is required")
@@ -44,6 +52,12 @@ public class ContactDetails
     )
     private String personalPhoneNumber;
 
+    // Per-user change sequence number of the last write, used by delta sync
+    @Column(name = "change_seq", nullable = false)
+    @ColumnDefault("0")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long changeSeq;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     @JsonIgnore
@@ -135,6 +149,14 @@ public class ContactDetails
         this.personalPhoneNumber = personalPhoneNumber;
     }
 
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
     public User getUser() {
         return user;
     }
@@ -0,0 +1,58 @@
+package com.example.contactmanager.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+// Record of a deleted contact, kept so delta sync clients learn about the delete
+@Entity
+@Table(name = "contact_tombstones", indexes = @Index(name = "idx_contact_tombstones_user_change_seq", columnList = "user_id, change_seq"))
+public class ContactTombstone
+{
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contact_tombstones_seq")
+    @SequenceGenerator(name = "contact_tombstones_seq", sequenceName = "contact_tombstones_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private long userId;
+
+    @Column(name = "contact_id", nullable = false)
+    private long contactId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Column(nullable = false)
+    private Instant deletedAt;
+
+    public ContactTombstone() {
+    }
+
+    public ContactTombstone(long userId, long contactId, long changeSeq, Instant deletedAt) {
+        this.userId = userId;
+        this.contactId = contactId;
+        this.changeSeq = changeSeq;
+        this.deletedAt = deletedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public long getContactId() {
+        return contactId;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
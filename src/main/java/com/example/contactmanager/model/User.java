@@ -1,9 +1,12 @@
 package com.example.contactmanager.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 
@@ -26,9 +29,25 @@ public class User
 
     @NotBlank(message = "Password is required")
     @Size(min = 8, message = "Password should be at least 8 characters long")
+    // Accepted on signup, never written out
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
 
+    // Last change sequence number handed out to this user's contacts, and the number of contacts the user
+    // has. Only changed by UserRepository.advanceChangeSeq, so the entity never writes them back.
+    @Column(name = "change_seq", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @JsonIgnore
+    private long changeSeq;
+
+    @Column(name = "contact_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @JsonIgnore
+    private long contactCount;
+
+    // Never serialized: rendering a user must not load the whole address book
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @JsonIgnore
     private List<ContactDetails> savedContacts;
 
     public User()
@@ -51,6 +70,14 @@ public class User
         this.savedContacts = savedContacts;
     }
 
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public long getContactCount() {
+        return contactCount;
+    }
+
     public long getId() {
         return id;
     }
@@ -1,17 +1,78 @@
 package com.example.contactmanager.repositories;
 
+import com.example.contactmanager.dto.SearchedContacts;
 import com.example.contactmanager.model.ContactDetails;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ContactDetailsRepository extends JpaRepository<ContactDetails, Long>
+public interface ContactDetailsRepository extends JpaRepository<ContactDetails, Long>, ContactDetailsRepositoryCustom
 {
-    public List<ContactDetails> findByUserIdAndFirstNameContainingIgnoreCase(long userId,String firstname);
+    // Searchable text of a contact; must stay identical to the expression of the pg_trgm index (V2__contact_indexes)
+    String SEARCH_TEXT = "lower(coalesce(first_name, '') || ' ' || coalesce(last_name, '') || ' ' || coalesce(personal_email, '') || ' ' "
+            + "|| coalesce(work_email, '') || ' ' || coalesce(personal_phone_number, '') || ' ' || coalesce(home_phone_number, '') || ' ' "
+            + "|| coalesce(work_phone_number, ''))";
 
-    public Page<ContactDetails> findByUserId(Long userId, Pageable pageable);
+    // The page bounds the rows the database returns
+    public List<ContactDetails> findByUserIdAndFirstNameContainingIgnoreCase(long userId, String firstname, Pageable pageable);
+
+    // Postgres only: substring match served by the trigram index, best matches first
+    @Query(value = "SELECT * FROM contact_details WHERE user_id = :userId AND " + SEARCH_TEXT + " LIKE :pattern "
+            + "ORDER BY word_similarity(:query, " + SEARCH_TEXT + ") DESC, last_name, first_name LIMIT :limit", nativeQuery = true)
+    public List<ContactDetails> searchRanked(@Param("userId") long userId, @Param("query") String query,
+                                             @Param("pattern") String pattern, @Param("limit") int limit);
+
+    // List view: only the columns the list shows are selected. Totals come from users.contact_count, so no count query runs.
+    @Query("select new com.example.contactmanager.dto.SearchedContacts(c.id, c.title, c.firstName, c.lastName, c.personalPhoneNumber, c.personalEmail) "
+            + "from ContactDetails c where c.user.id = :userId order by c.lastName, c.firstName, c.id")
+    public List<SearchedContacts> findSummariesByUserId(@Param("userId") long userId, Pageable pageable);
+
+    // Pages ordered by (lastName, firstName, id): offset pages of the contact list and the first keyset page,
+    // then the keyset page after a given position
+    public List<ContactDetails> findByUserIdOrderByLastNameAscFirstNameAscIdAsc(long userId, Pageable pageable);
+
+    @Query("select c from ContactDetails c where c.user.id = :userId and (c.lastName > :lastName "
+            + "or (c.lastName = :lastName and (c.firstName > :firstName or (c.firstName = :firstName and c.id > :id)))) "
+            + "order by c.lastName, c.firstName, c.id")
+    public List<ContactDetails> findPageAfter(@Param("userId") long userId, @Param("lastName") String lastName,
+                                              @Param("firstName") String firstName, @Param("id") long id, Pageable pageable);
+
+    // Version of a single contact, for conditional reads
+    @Query("select c.changeSeq from ContactDetails c where c.id = :id and c.user.id = :userId")
+    public Optional<Long> findChangeSeqByIdAndUserId(@Param("id") long id, @Param("userId") long userId);
+
+    // Batch operations: the targets of many updates or deletes are resolved with one statement. Deletes go
+    // through the loaded entities rather than a bulk DELETE, which would evict the whole second-level cache region.
+    public List<ContactDetails> findByUserIdAndIdIn(long userId, Collection<Long> ids);
+
+    // Delta sync: contacts written after a change sequence number
+    public List<ContactDetails> findByUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(long userId, long changeSeq, Pageable pageable);
+
+    // Admin scan over the whole table: a forward-only cursor fetched in chunks, with no dirty-checking snapshots
+    // and no second-level cache puts, which would push out the contacts actually being read
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select c from ContactDetails c order by c.id")
+    public Stream<ContactDetails> streamAllByOrderByIdAsc();
+
+    // Keyset chunk: the next contacts of a user after the given id, used to walk large address books (export,
+    // typeahead index builds) without filling the second-level cache
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    public List<ContactDetails> findByUserIdAndIdGreaterThanOrderByIdAsc(long userId, long id, Pageable pageable);
 }
@@ -0,0 +1,17 @@
+package com.example.contactmanager.repositories;
+
+import com.example.contactmanager.model.ContactDetails;
+
+import java.util.List;
+
+public interface ContactDetailsRepositoryCustom
+{
+    // Inserts the contacts as one JDBC batch and clears the persistence context afterwards
+    public int persistBatch(List<ContactDetails> contacts);
+
+    // Detaches contacts that have been read and are no longer needed, so long reads do not grow the persistence context
+    public void detachAll(List<ContactDetails> contacts);
+
+    // Deletes the contact if the user owns it and evicts only that contact from the second-level cache
+    public int deleteByIdAndUserId(long id, long userId);
+}
@@ -0,0 +1,85 @@
+package com.example.contactmanager.repositories;
+
+import com.example.contactmanager.model.ContactDetails;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+public class ContactDetailsRepositoryCustomImpl implements ContactDetailsRepositoryCustom
+{
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int persistBatch(List<ContactDetails> contacts)
+    {
+        // Bulk inserts are kept out of the second-level cache, where they would only push out the contacts being read.
+        // Hibernate decides on the cache put when it flushes the insert, so the mode is restored after the flush.
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        try {
+            for (ContactDetails contact : contacts) {
+                entityManager.persist(contact);
+            }
+            // Flushing sends the inserts in hibernate.jdbc.batch_size groups; clearing keeps the first-level cache small
+            entityManager.flush();
+            entityManager.clear();
+        } finally {
+            session.setCacheMode(cacheMode);
+        }
+        return contacts.size();
+    }
+
+    @Override
+    public void detachAll(List<ContactDetails> contacts)
+    {
+        for (ContactDetails contact : contacts) {
+            entityManager.detach(contact);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deleteByIdAndUserId(long id, long userId)
+    {
+        // A JPQL bulk delete would evict the whole contacts region. The native DELETE declares a query space
+        // that no entity maps to, so nothing is evicted implicitly and only the deleted contact is evicted below.
+        int deleted = entityManager.createNativeQuery("DELETE FROM contact_details WHERE id = :id AND user_id = :userId")
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("")
+                .executeUpdate();
+        if (deleted > 0) {
+            evictAfterCommit(id);
+        }
+        return deleted;
+    }
+
+    // Evicting before the commit would let a concurrent read put the still committed row back into the cache
+    private void evictAfterCommit(long id)
+    {
+        Runnable evict = () -> entityManager.getEntityManagerFactory().getCache().evict(ContactDetails.class, id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization()
+        {
+            @Override
+            public void afterCommit()
+            {
+                evict.run();
+            }
+        });
+    }
+}
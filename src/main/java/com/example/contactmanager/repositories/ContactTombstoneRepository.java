@@ -0,0 +1,14 @@
+package com.example.contactmanager.repositories;
+
+import com.example.contactmanager.model.ContactTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ContactTombstoneRepository extends JpaRepository<ContactTombstone, Long>
+{
+    public List<ContactTombstone> findByUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(long userId, long changeSeq, Pageable pageable);
+}
@@ -1,7 +1,12 @@
 package com.example.contactmanager.repositories;
 
+import com.example.contactmanager.dto.UserContactCounters;
+import com.example.contactmanager.dto.UserProfileResponse;
 import com.example.contactmanager.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,5 +14,24 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>
 {
-    public Optional<User> findByEmail(String email);
+    // Case-insensitive, matching the unique index on lower(email)
+    @Query("select u from User u where lower(u.email) = lower(:email)")
+    public Optional<User> findByEmail(@Param("email") String email);
+
+    // Change sequence: the update locks the user's row until the surrounding transaction commits. The contact
+    // count moves in the same statement, so it always agrees with the committed contacts.
+    @Modifying
+    @Query("update User u set u.changeSeq = u.changeSeq + :count, u.contactCount = u.contactCount + :contactDelta where u.id = :userId")
+    public int advanceChangeSeq(@Param("userId") long userId, @Param("count") long count, @Param("contactDelta") long contactDelta);
+
+    @Query("select u.changeSeq from User u where u.id = :userId")
+    public Optional<Long> findChangeSeqById(@Param("userId") long userId);
+
+    @Query("select new com.example.contactmanager.dto.UserContactCounters(u.changeSeq, u.contactCount) from User u where u.id = :userId")
+    public Optional<UserContactCounters> findContactCountersById(@Param("userId") long userId);
+
+    // Profile columns and the maintained contact count; the contacts themselves are never read
+    @Query("select new com.example.contactmanager.dto.UserProfileResponse(u.id, u.firstName, u.lastName, u.email, u.contactCount) " +
+            "from User u where u.id = :userId")
+    public Optional<UserProfileResponse> findProfileById(@Param("userId") long userId);
 }
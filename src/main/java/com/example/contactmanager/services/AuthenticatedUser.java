@@ -0,0 +1,32 @@
+package com.example.contactmanager.services;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+// Security principal that also carries the user's id, so requests never resolve it from the email again
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User
+{
+    private final long id;
+
+    public AuthenticatedUser(long id, String email, String password, Collection<? extends GrantedAuthority> authorities)
+    {
+        super(email, password, authorities);
+        this.id = id;
+    }
+
+    public long getId()
+    {
+        return id;
+    }
+
+    // Returns the user id when the request targets the caller's own data
+    public long requireUserId(long requestedUserId)
+    {
+        if (requestedUserId != id) {
+            throw new AccessDeniedException("Access denied");
+        }
+        return id;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.contactmanager.services;
+
+import com.example.contactmanager.customexceptions.UserNotFoundException;
+import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.model.ContactTombstone;
+import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.example.contactmanager.repositories.ContactTombstoneRepository;
+import com.example.contactmanager.repositories.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// Hands out per-user change sequence numbers for delta sync. Numbers come from users.change_seq:
+// advancing it locks the user's row until commit, so one user's writes commit in sequence order
+// and a client that has seen number N has also seen every change below it. The same UPDATE keeps
+// users.contact_count in step with contacts added and deleted.
+@Component
+public class ChangeSequencer
+{
+    private final UserRepository userRepository;
+    private final ContactDetailsRepository contactDetailsRepository;
+    private final ContactTombstoneRepository contactTombstoneRepository;
+
+    public ChangeSequencer(UserRepository userRepository, ContactDetailsRepository contactDetailsRepository,
+                           ContactTombstoneRepository contactTombstoneRepository)
+    {
+        this.userRepository = userRepository;
+        this.contactDetailsRepository = contactDetailsRepository;
+        this.contactTombstoneRepository = contactTombstoneRepository;
+    }
+
+    // Reserves count consecutive numbers and returns the first one
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long reserve(long userId, int count)
+    {
+        return reserve(userId, count, 0);
+    }
+
+    private long reserve(long userId, int count, int contactDelta)
+    {
+        if (userRepository.advanceChangeSeq(userId, count, contactDelta) == 0) {
+            throw new UserNotFoundException(UserNotFoundException.DEFAULT_MESSAGE);
+        }
+        long last = userRepository.findChangeSeqById(userId)
+                .orElseThrow(() -> new UserNotFoundException(UserNotFoundException.DEFAULT_MESSAGE));
+        return last - count + 1;
+    }
+
+    // Numbers updated contacts
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void contactsChanged(long userId, List<ContactDetails> contacts)
+    {
+        numberContacts(userId, contacts, 0);
+    }
+
+    // Numbers contacts about to be inserted and counts them in
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void contactsAdded(long userId, List<ContactDetails> contacts)
+    {
+        numberContacts(userId, contacts, contacts.size());
+    }
+
+    // Numbers and inserts new contacts in the same transaction; a whole import batch is counted in one increment
+    @Transactional
+    public int persistNewContacts(long userId, List<ContactDetails> contacts)
+    {
+        contactsAdded(userId, contacts);
+        return contactDetailsRepository.persistBatch(contacts);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void contactsDeleted(long userId, Collection<Long> contactIds)
+    {
+        if (contactIds.isEmpty()) {
+            return;
+        }
+        long changeSeq = reserve(userId, contactIds.size(), -contactIds.size());
+        Instant now = Instant.now();
+        List<ContactTombstone> tombstones = new ArrayList<>(contactIds.size());
+        for (long contactId : contactIds) {
+            tombstones.add(new ContactTombstone(userId, contactId, changeSeq++, now));
+        }
+        contactTombstoneRepository.saveAll(tombstones);
+    }
+
+    private void numberContacts(long userId, List<ContactDetails> contacts, int contactDelta)
+    {
+        if (contacts.isEmpty()) {
+            return;
+        }
+        long changeSeq = reserve(userId, contacts.size(), contactDelta);
+        for (ContactDetails contact : contacts) {
+            contact.setChangeSeq(changeSeq++);
+        }
+    }
+}
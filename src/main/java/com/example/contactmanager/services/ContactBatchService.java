@@ -0,0 +1,221 @@
+package com.example.contactmanager.services;
+
+import com.example.contactmanager.dto.ContactBatchItemResult;
+import com.example.contactmanager.dto.ContactBatchOperation;
+import com.example.contactmanager.dto.ContactBatchRequest;
+import com.example.contactmanager.dto.ContactBatchResponse;
+import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.model.User;
+import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.example.contactmanager.repositories.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Timed("contactmanager.service")
+public class ContactBatchService
+{
+    private final ContactDetailsRepository contactDetailsRepository;
+    private final UserRepository userRepository;
+    private final ContactSearchIndex contactSearchIndex;
+    private final ChangeSequencer changeSequencer;
+    private final Validator validator;
+    private final int maxOperations;
+
+    public ContactBatchService(ContactDetailsRepository contactDetailsRepository, UserRepository userRepository,
+                               ContactSearchIndex contactSearchIndex, ChangeSequencer changeSequencer, Validator validator,
+                               @Value("${contactmanager.batch.max-operations:1000}") int maxOperations)
+    {
+        this.contactDetailsRepository = contactDetailsRepository;
+        this.userRepository = userRepository;
+        this.contactSearchIndex = contactSearchIndex;
+        this.changeSequencer = changeSequencer;
+        this.validator = validator;
+        this.maxOperations = maxOperations;
+    }
+
+    // Applies a list of mixed operations in one transaction. Invalid or unknown items are reported
+    // in their result and skipped; the rest are written with one statement per operation type.
+    @Transactional
+    public ResponseEntity<ContactBatchResponse> applyBatch(long userId, ContactBatchRequest request)
+    {
+        List<ContactBatchOperation> operations = request.getOperations() == null ? List.of() : request.getOperations();
+        if (operations.isEmpty()) {
+            return new ResponseEntity<>(new ContactBatchResponse(List.of(), 0, 0, 0, 0, "No operations in batch", false), HttpStatus.BAD_REQUEST);
+        }
+        if (operations.size() > maxOperations) {
+            return new ResponseEntity<>(new ContactBatchResponse(List.of(), 0, 0, 0, 0,
+                    "A batch can hold at most " + maxOperations + " operations", false), HttpStatus.BAD_REQUEST);
+        }
+
+        ContactBatchItemResult[] results = new ContactBatchItemResult[operations.size()];
+        List<Integer> creates = new ArrayList<>();
+        List<Integer> updates = new ArrayList<>();
+        List<Integer> deletes = new ArrayList<>();
+
+        // Validation pass: nothing is written until every operation has been checked
+        Set<Long> targetedIds = new HashSet<>();
+        for (int i = 0; i < operations.size(); i++) {
+            ContactBatchOperation operation = operations.get(i);
+            ContactBatchItemResult rejection = validate(i, operation, targetedIds);
+            if (rejection != null) {
+                results[i] = rejection;
+            } else if (operation.getOp() == ContactBatchOperation.Type.CREATE) {
+                creates.add(i);
+            } else if (operation.getOp() == ContactBatchOperation.Type.UPDATE) {
+                updates.add(i);
+            } else {
+                deletes.add(i);
+            }
+        }
+
+        List<ContactDetails> savedContacts = new ArrayList<>();
+        int updated = applyUpdates(userId, operations, updates, results, savedContacts);
+        List<Long> deletedIds = applyDeletes(userId, operations, deletes, results);
+        int created = applyCreates(userId, operations, creates, results, savedContacts);
+
+        contactSearchIndex.contactsSaved(userId, savedContacts);
+        deletedIds.forEach(id -> contactSearchIndex.contactRemoved(userId, id));
+
+        int failed = operations.size() - created - updated - deletedIds.size();
+        log.info("Contact batch applied: {} created, {} updated, {} deleted, {} failed", created, updated, deletedIds.size(), failed);
+        String message = failed == 0 ? "Batch applied successfully" : "Batch applied with " + failed + " failed operations";
+        return new ResponseEntity<>(new ContactBatchResponse(Arrays.asList(results), created, updated, deletedIds.size(), failed,
+                message, failed == 0), HttpStatus.OK);
+    }
+
+    private ContactBatchItemResult validate(int index, ContactBatchOperation operation, Set<Long> targetedIds)
+    {
+        ContactBatchOperation.Type type = operation.getOp();
+        if (type == null) {
+            return failure(index, operation, HttpStatus.BAD_REQUEST, "Operation type is required");
+        }
+        if (type != ContactBatchOperation.Type.CREATE) {
+            if (operation.getId() == null) {
+                return failure(index, operation, HttpStatus.BAD_REQUEST, "Contact id is required");
+            }
+            if (!targetedIds.add(operation.getId())) {
+                return failure(index, operation, HttpStatus.CONFLICT, "Contact is targeted by more than one operation");
+            }
+        }
+        if (type != ContactBatchOperation.Type.DELETE) {
+            if (operation.getContact() == null) {
+                return failure(index, operation, HttpStatus.BAD_REQUEST, "Contact details are required");
+            }
+            Set<ConstraintViolation<ContactDetails>> violations = validator.validate(operation.getContact());
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                return failure(index, operation, HttpStatus.BAD_REQUEST, message);
+            }
+        }
+        return null;
+    }
+
+    private int applyUpdates(long userId, List<ContactBatchOperation> operations, List<Integer> updates,
+                             ContactBatchItemResult[] results, List<ContactDetails> savedContacts)
+    {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        // All targets are loaded in one query; the changes are flushed as batched UPDATEs on commit
+        List<Long> ids = updates.stream().map(i -> operations.get(i).getId()).toList();
+        Map<Long, ContactDetails> owned = contactDetailsRepository.findByUserIdAndIdIn(userId, ids).stream()
+                .collect(Collectors.toMap(ContactDetails::getId, Function.identity()));
+
+        List<ContactDetails> updatedContacts = new ArrayList<>();
+        for (int i : updates) {
+            ContactBatchOperation operation = operations.get(i);
+            ContactDetails contactToUpdate = owned.get(operation.getId());
+            if (contactToUpdate == null) {
+                results[i] = failure(i, operation, HttpStatus.NOT_FOUND, "Contact Not Found");
+                continue;
+            }
+            ContactDetailsService.applyChanges(contactToUpdate, operation.getContact());
+            updatedContacts.add(contactToUpdate);
+            results[i] = success(i, operation, contactToUpdate.getId(), HttpStatus.OK, "Contact Updated Successfully");
+        }
+        changeSequencer.contactsChanged(userId, updatedContacts);
+        savedContacts.addAll(updatedContacts);
+        return updatedContacts.size();
+    }
+
+    private List<Long> applyDeletes(long userId, List<ContactBatchOperation> operations, List<Integer> deletes,
+                                    ContactBatchItemResult[] results)
+    {
+        if (deletes.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = deletes.stream().map(i -> operations.get(i).getId()).toList();
+        Map<Long, ContactDetails> owned = contactDetailsRepository.findByUserIdAndIdIn(userId, ids).stream()
+                .collect(Collectors.toMap(ContactDetails::getId, Function.identity()));
+
+        List<Long> deletedIds = new ArrayList<>();
+        List<ContactDetails> deletedContacts = new ArrayList<>();
+        for (int i : deletes) {
+            ContactBatchOperation operation = operations.get(i);
+            ContactDetails contactToDelete = owned.get(operation.getId());
+            if (contactToDelete != null) {
+                results[i] = success(i, operation, operation.getId(), HttpStatus.OK, "Contact Deleted Successfully");
+                deletedIds.add(operation.getId());
+                deletedContacts.add(contactToDelete);
+            } else {
+                results[i] = failure(i, operation, HttpStatus.NOT_FOUND, "Contact Not Found");
+            }
+        }
+        // Sequence first, so the user row is locked before the contact rows as on every other write path. The
+        // entity deletes are flushed as batched statements and evict only these contacts from the second-level cache.
+        changeSequencer.contactsDeleted(userId, deletedIds);
+        contactDetailsRepository.deleteAll(deletedContacts);
+        return deletedIds;
+    }
+
+    private int applyCreates(long userId, List<ContactBatchOperation> operations, List<Integer> creates,
+                             ContactBatchItemResult[] results, List<ContactDetails> savedContacts)
+    {
+        if (creates.isEmpty()) {
+            return 0;
+        }
+        User user = userRepository.getReferenceById(userId);
+        List<ContactDetails> newContacts = new ArrayList<>(creates.size());
+        for (int i : creates) {
+            ContactDetails contact = operations.get(i).getContact();
+            contact.setId(0);
+            contact.setUser(user);
+            newContacts.add(contact);
+        }
+        // Runs last: the flush also sends the pending updates, all in hibernate.jdbc.batch_size groups
+        changeSequencer.persistNewContacts(userId, newContacts);
+
+        for (int n = 0; n < creates.size(); n++) {
+            int i = creates.get(n);
+            results[i] = success(i, operations.get(i), newContacts.get(n).getId(), HttpStatus.CREATED, "Contact created Successfully");
+        }
+        savedContacts.addAll(newContacts);
+        return creates.size();
+    }
+
+    private static ContactBatchItemResult success(int index, ContactBatchOperation operation, Long id, HttpStatus status, String message)
+    {
+        return new ContactBatchItemResult(index, operation.getOp(), id, status.value(), message, true);
+    }
+
+    private static ContactBatchItemResult failure(int index, ContactBatchOperation operation, HttpStatus status, String message)
+    {
+        return new ContactBatchItemResult(index, operation.getOp(), operation.getId(), status.value(), message, false);
+    }
+}
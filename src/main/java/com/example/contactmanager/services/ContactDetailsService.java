@@ -3,63 +3,114 @@ package com.example.contactmanager.services;
 import com.example.contactmanager.customexceptions.ContactNotFoundException;
 import com.example.contactmanager.customexceptions.UserNotFoundException;
 import com.example.contactmanager.dto.*;
+import com.example.contactmanager.metrics.ContactMetrics;
+import com.example.contactmanager.metrics.CountingOutputStream;
 import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.model.ContactTombstone;
 import com.example.contactmanager.model.User;
 import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.example.contactmanager.repositories.ContactTombstoneRepository;
 import com.example.contactmanager.repositories.UserRepository;
 import ezvcard.Ezvcard;
 import ezvcard.VCard;
+import ezvcard.io.text.VCardReader;
 import ezvcard.parameter.EmailType;
 import ezvcard.parameter.TelephoneType;
 import ezvcard.property.Email;
 import ezvcard.property.FormattedName;
 import ezvcard.property.Telephone;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Timed("contactmanager.service")
 public class ContactDetailsService {
 
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final int IMPORT_BATCH_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 100;
+    // Clients may keep tagged responses but must revalidate them before every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final ContactDetailsRepository contactDetailsRepository;
     private final UserRepository userRepository;
-
-    public ContactDetailsService(ContactDetailsRepository contactDetailsRepository, UserRepository userRepository) {
+    private final ContactSearchIndex contactSearchIndex;
+    private final ChangeSequencer changeSequencer;
+    private final ContactTombstoneRepository contactTombstoneRepository;
+    private final ContactMetrics contactMetrics;
+    private final Validator validator;
+
+    public ContactDetailsService(ContactDetailsRepository contactDetailsRepository, UserRepository userRepository, ContactSearchIndex contactSearchIndex,
+                                 ChangeSequencer changeSequencer, ContactTombstoneRepository contactTombstoneRepository, ContactMetrics contactMetrics,
+                                 Validator validator) {
         this.contactDetailsRepository = contactDetailsRepository;
         this.userRepository = userRepository;
+        this.contactSearchIndex = contactSearchIndex;
+        this.changeSequencer = changeSequencer;
+        this.contactTombstoneRepository = contactTombstoneRepository;
+        this.contactMetrics = contactMetrics;
+        this.validator = validator;
     }
 
-    public ResponseEntity<ContactListResponse> getAllContacts() {
-        List<ContactDetails> contacts = contactDetailsRepository.findAll();
-        log.info("All contacts fetched successfully");
-        return new ResponseEntity<>(new ContactListResponse(contacts, "Contacts fetched successfully", true), HttpStatus.OK);
+    // Admin view over every user's contacts, one bounded page at a time
+    public ResponseEntity<ContactListResponse> getAllContacts(int page, int size) {
+        Page<ContactDetails> contactPage = contactDetailsRepository.findAll(PageRequest.of(page, pageSize(size), Sort.by("id")));
+        log.info("A page of all contacts fetched successfully");
+        return new ResponseEntity<>(new ContactListResponse(contactPage.getContent(), "Contacts fetched successfully", true,
+                contactPage.getNumber(), contactPage.getTotalPages(), contactPage.getTotalElements()), HttpStatus.OK);
     }
 
+    // The userId parameters below are the authenticated user's own id, taken from the verified token,
+    // so the user is referenced without loading it first.
+    @Transactional
     public ResponseEntity<ContactCreateResponse> createContact(Long userId, ContactDetails contactDetails) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(UserNotFoundException.DEFAULT_MESSAGE));
-        contactDetails.setUser(user);
+        // An id sent by the client would turn the save into a merge over another contact
+        contactDetails.setId(0);
+        contactDetails.setUser(userRepository.getReferenceById(userId));
+        changeSequencer.contactsAdded(userId, List.of(contactDetails));
         contactDetailsRepository.save(contactDetails);
+        contactSearchIndex.contactSaved(userId, contactDetails);
         log.info("New contact created successfully");
         return new ResponseEntity<>(new ContactCreateResponse("Contact created Successfully", true), HttpStatus.CREATED);
     }
 
-    public ResponseEntity<ContactListResponse> getContactsById(Long userId, int page) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(UserNotFoundException.DEFAULT_MESSAGE));
-
-        Pageable pageable = PageRequest.of(page, 5);
-        Page<ContactDetails> contactPage = contactDetailsRepository.findByUserId(user.getId(), pageable);
+    // Conditional reads: the version is a single indexed column read before any contact row. When it matches
+    // If-None-Match the request is answered with 304 and no contact is loaded or serialized. It is read
+    // before the data, so a tag is never newer than the payload it is sent with. The totals come from the
+    // user's maintained contact count, read with the version, instead of a count query per page.
+    public ResponseEntity<ContactListResponse> getContactsById(Long userId, int page, int size, String ifNoneMatch) {
+        Pageable pageable = PageRequest.of(page, pageSize(size));
+        UserContactCounters counters = contactCounters(userId);
+        String etag = ETags.userContacts("p" + pageable.getPageNumber() + "s" + pageable.getPageSize(), userId, counters.getChangeSeq());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        Page<ContactDetails> contactPage = new PageImpl<>(
+                contactDetailsRepository.findByUserIdOrderByLastNameAscFirstNameAscIdAsc(userId, pageable), pageable, counters.getContactCount());
 
         List<ContactDetails> usersSavedContacts = contactPage.getContent();
         int currentPage = contactPage.getNumber();
@@ -67,50 +118,147 @@ public class ContactDetailsService {
         long totalItems = contactPage.getTotalElements();
 
         log.info("A single contact is fetched by the user ID.");
-        return new ResponseEntity<>(new ContactListResponse(usersSavedContacts, "Contacts fetched successfully", true, currentPage, totalPages, totalItems), HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(new ContactListResponse(usersSavedContacts, "Contacts fetched successfully", true, currentPage, totalPages, totalItems));
     }
 
-    public ResponseEntity<ContactCreateResponse> deleteContact(Long userId, Long contactId) {
-        User user = userRepository.findById(userId)
+    private long userChangeSeq(long userId) {
+        return userRepository.findChangeSeqById(userId)
+                .orElseThrow(() -> new UserNotFoundException(UserNotFoundException.DEFAULT_MESSAGE));
+    }
+
+    private UserContactCounters contactCounters(long userId) {
+        return userRepository.findContactCountersById(userId)
                 .orElseThrow(() -> new UserNotFoundException(UserNotFoundException.DEFAULT_MESSAGE));
+    }
 
-        ContactDetails contactToDelete = user.getSavedContacts().stream()
-                .filter(contact -> contact.getId() == contactId)
-                .findFirst()
-                .orElse(null);
+    public ResponseEntity<ContactSummaryListResponse> getContactSummaries(long userId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, pageSize(size));
+        Page<SearchedContacts> summaryPage = new PageImpl<>(
+                contactDetailsRepository.findSummariesByUserId(userId, pageable), pageable, contactCounters(userId).getContactCount());
 
-        if (contactToDelete == null) {
-            log.error("Contact to be deleted not found");
-            return new ResponseEntity<>(new ContactCreateResponse("Contact Not Found", false), HttpStatus.NOT_FOUND);
+        log.info("Contact summaries are fetched by the user ID.");
+        return new ResponseEntity<>(new ContactSummaryListResponse(summaryPage.getContent(), "Contacts fetched successfully", true,
+                summaryPage.getNumber(), summaryPage.getTotalPages(), summaryPage.getTotalElements()), HttpStatus.OK);
+    }
+
+    public ResponseEntity<ContactWindowResponse> scrollContacts(long userId, String cursor, int size, boolean includeTotal) {
+        int pageSize = pageSize(size);
+        // One extra row tells whether another page follows without a count query
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<ContactDetails> contacts;
+        if (cursor == null || cursor.isEmpty()) {
+            contacts = contactDetailsRepository.findByUserIdOrderByLastNameAscFirstNameAscIdAsc(userId, pageable);
+        } else {
+            ContactCursor position = ContactCursor.decode(cursor);
+            contacts = contactDetailsRepository.findPageAfter(userId, position.getLastName(), position.getFirstName(), position.getId(), pageable);
+        }
+
+        boolean hasNext = contacts.size() > pageSize;
+        if (hasNext) {
+            contacts = contacts.subList(0, pageSize);
         }
+        String nextCursor = hasNext ? ContactCursor.after(contacts.get(contacts.size() - 1)).encode() : null;
+        Long totalItems = includeTotal ? contactCounters(userId).getContactCount() : null;
 
-        user.getSavedContacts().remove(contactToDelete);
-        userRepository.save(user);
+        log.info("A window of contacts is fetched by the user ID.");
+        return new ResponseEntity<>(new ContactWindowResponse(contacts, nextCursor, hasNext, totalItems, "Contacts fetched successfully", true), HttpStatus.OK);
+    }
 
-        contactDetailsRepository.deleteById(contactId);
+    // Requested page size, kept within 1..MAX_PAGE_SIZE
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    @Transactional
+    public ResponseEntity<ContactCreateResponse> deleteContact(Long userId, Long contactId) {
+        // A single owner-scoped DELETE; neither the user nor the contact is loaded. The user row is locked by
+        // reserving the sequence before the DELETE locks the contact row, the same order as every other write
+        // path, so concurrent writes of one user cannot deadlock.
+        changeSequencer.contactsDeleted(userId, List.of(contactId));
+        if (contactDetailsRepository.deleteByIdAndUserId(contactId, userId) == 0) {
+            log.error("Contact to be deleted not found");
+            // Rolls back the reserved sequence number and the tombstone
+            throw new ContactNotFoundException("Contact Not Found");
+        }
+
+        contactSearchIndex.contactRemoved(userId, contactId);
         log.info("Contact deleted successfully by the user ID.");
         return new ResponseEntity<>(new ContactCreateResponse("Contact Deleted Successfully", true), HttpStatus.OK);
     }
 
 
-    public ResponseEntity<ContactDetailResponse> getAContact(Long contactId) {
-        ContactDetails contact = contactDetailsRepository.findById(contactId).orElseThrow(() -> new ContactNotFoundException("Contact not found"));
+    public ResponseEntity<ContactDetailResponse> getAContact(long userId, Long contactId, String ifNoneMatch) {
+        long changeSeq = contactDetailsRepository.findChangeSeqByIdAndUserId(contactId, userId)
+                .orElseThrow(() -> new ContactNotFoundException("Contact not found"));
+        String etag = ETags.contact(contactId, changeSeq);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        ContactDetails contact = findOwnedContact(userId, contactId).orElseThrow(() -> new ContactNotFoundException("Contact not found"));
         log.info("Contact fetched successfully by the Contact ID.");
-        return new ResponseEntity<>(new ContactDetailResponse(contact, "Contact fetched successfully", true), HttpStatus.OK);
+        // Tagged with the row that was actually read, in case it changed after the version check
+        return ResponseEntity.ok().eTag(ETags.contact(contactId, contact.getChangeSeq())).cacheControl(REVALIDATE)
+                .body(new ContactDetailResponse(contact, "Contact fetched successfully", true));
     }
 
-    public ResponseEntity<SearchResponse> findByFirstName(long userID, String name) {
-        List<ContactDetails> contact = contactDetailsRepository.findByUserIdAndFirstNameContainingIgnoreCase(userID,name);
+    @Transactional
+    public ResponseEntity<ContactUpdateResponse> updateContact(long userId, Long contactId, ContactDetails request) {
+        ContactDetails contactToUpdate = findOwnedContact(userId, contactId).orElseThrow(() -> new ContactNotFoundException("Contact Not Found"));
 
-        if (contact.isEmpty()) {
-            throw new ContactNotFoundException("Contact not found");
-        }
-        return new ResponseEntity<>(new SearchResponse(contact, "Contacts Found Successfully", true), HttpStatus.OK);
+        applyChanges(contactToUpdate, request);
+        changeSequencer.contactsChanged(userId, List.of(contactToUpdate));
+
+        contactDetailsRepository.save(contactToUpdate);
+        contactSearchIndex.contactSaved(userId, contactToUpdate);
+        log.info("Contact details updated successfully by the contact ID.");
+        return new ResponseEntity<>(new ContactUpdateResponse("Contact Updated Successfully", true), HttpStatus.OK);
+    }
+
+    // Loaded by primary key, which the second-level cache can answer when it is enabled; ownership is then
+    // checked on the loaded row. The user is a lazy reference, so reading its id does not load it.
+    private Optional<ContactDetails> findOwnedContact(long userId, long contactId) {
+        return contactDetailsRepository.findById(contactId)
+                .filter(contact -> contact.getUser() != null && contact.getUser().getId() == userId);
     }
 
-    public ResponseEntity<ContactUpdateResponse> updateContact(Long contactId, ContactDetails request) {
-        ContactDetails contactToUpdate = contactDetailsRepository.findById(contactId).orElseThrow(() -> new ContactNotFoundException("Contact Not Found"));
+    // Delta sync: contacts written and contacts deleted after the given change sequence number, merged
+    // in sequence order and cut at the page size. Clients pass nextSince back until hasMore is false.
+    @Transactional(readOnly = true)
+    public ResponseEntity<ContactChangesResponse> getChanges(long userId, long since, int size) {
+        int limit = pageSize(size);
+        Pageable window = PageRequest.of(0, limit + 1);
+        List<ContactDetails> changed = contactDetailsRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(userId, since, window);
+        List<ContactTombstone> tombstones = contactTombstoneRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(userId, since, window);
+
+        List<ContactDetails> contacts = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        long nextSince = since;
+        int c = 0;
+        int t = 0;
+        while (contacts.size() + deletedIds.size() < limit && (c < changed.size() || t < tombstones.size())) {
+            boolean takeContact = t == tombstones.size()
+                    || (c < changed.size() && changed.get(c).getChangeSeq() < tombstones.get(t).getChangeSeq());
+            if (takeContact) {
+                ContactDetails contact = changed.get(c++);
+                contacts.add(contact);
+                nextSince = contact.getChangeSeq();
+            } else {
+                ContactTombstone tombstone = tombstones.get(t++);
+                deletedIds.add(tombstone.getContactId());
+                nextSince = tombstone.getChangeSeq();
+            }
+        }
+        boolean hasMore = c < changed.size() || t < tombstones.size();
+
+        log.info("Changes fetched for the user ID since {}", since);
+        return new ResponseEntity<>(new ContactChangesResponse(contacts, deletedIds, nextSince, hasMore, "Changes fetched successfully", true), HttpStatus.OK);
+    }
 
+    // Copies the editable fields of an update request onto the stored contact
+    static void applyChanges(ContactDetails contactToUpdate, ContactDetails request) {
         contactToUpdate.setFirstName(request.getFirstName());
         contactToUpdate.setLastName(request.getLastName());
         contactToUpdate.setPersonalEmail(request.getPersonalEmail());
@@ -119,89 +267,143 @@ public class ContactDetailsService {
         contactToUpdate.setHomePhoneNumber(request.getHomePhoneNumber());
         contactToUpdate.setPersonalPhoneNumber(request.getPersonalPhoneNumber());
         contactToUpdate.setWorkPhoneNumber(request.getWorkPhoneNumber());
+    }
 
-        contactDetailsRepository.save(contactToUpdate);
-        log.info("Contact details updated successfully by the contact ID.");
-        return new ResponseEntity<>(new ContactUpdateResponse("Contact Updated Successfully", true), HttpStatus.OK);
+    public ResponseEntity<StreamingResponseBody> exportContacts(long userId, String ifNoneMatch) {
+        String etag = ETags.userContacts("vcf", userId, userChangeSeq(userId));
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        // Contacts are read in keyset chunks and written straight to the response, so memory stays flat
+        // whatever the size of the address book. No content length is set, so the response is chunked.
+        // With open-in-view the request's persistence context outlives the controller, so each chunk is
+        // detached once written instead of accumulating there until the download ends.
+        StreamingResponseBody body = outputStream -> {
+            CountingOutputStream countingStream = new CountingOutputStream(outputStream);
+            long lastId = 0;
+            long exported = 0;
+            List<ContactDetails> chunk;
+            do {
+                chunk = contactDetailsRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, lastId, PageRequest.of(0, EXPORT_CHUNK_SIZE));
+                for (ContactDetails contact : chunk) {
+                    Ezvcard.write(buildVCard(contact)).go(countingStream);
+                    lastId = contact.getId();
+                }
+                contactDetailsRepository.detachAll(chunk);
+                exported += chunk.size();
+                countingStream.flush();
+            } while (chunk.size() == EXPORT_CHUNK_SIZE);
+            contactMetrics.exportFinished(exported, countingStream.getCount());
+            log.info("Contacts exported successfully by the user ID.");
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=contacts.vcf");
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .contentType(MediaType.parseMediaType("text/vcard"))
+                .body(body);
     }
 
-    public ResponseEntity<byte[]> exportContacts(long userId) {
-        try {
-            User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(UserNotFoundException.DEFAULT_MESSAGE));
+    public VCard buildVCard(ContactDetails contact)
+    {
+        VCard vCard = new VCard();
 
-            List<ContactDetails> contactsList = user.getSavedContacts();
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        vCard.addProperty(new FormattedName(contact.getTitle() + contact.getFirstName() + " " + contact.getLastName()));
 
-            for (ContactDetails contact : contactsList) {
-                VCard vCard = new VCard();
+        Telephone personalPhone = new Telephone(contact.getPersonalPhoneNumber());
+        personalPhone.getTypes().add(TelephoneType.CELL);
+        vCard.addProperty(personalPhone);
 
-                vCard.addProperty(new FormattedName(contact.getTitle() + contact.getFirstName() + " " + contact.getLastName()));
+        Email personalEmail = new Email(contact.getPersonalEmail());
+        personalEmail.getTypes().add(EmailType.HOME);
+        vCard.addProperty(personalEmail);
 
-                Telephone personalPhone = new Telephone(contact.getPersonalPhoneNumber());
-                personalPhone.getTypes().add(TelephoneType.CELL);
-                vCard.addProperty(personalPhone);
+        if (contact.getHomePhoneNumber() != null){
+            Telephone homePhone = new Telephone(contact.getHomePhoneNumber());
+            homePhone.getTypes().add(TelephoneType.HOME);
+            vCard.addProperty(homePhone);
+        }
 
-                Email personalEmail = new Email(contact.getPersonalEmail());
-                personalEmail.getTypes().add(EmailType.HOME);
-                vCard.addProperty(personalEmail);
+        if (contact.getWorkPhoneNumber() != null){
+            Telephone workPhone = new Telephone(contact.getWorkPhoneNumber());
+            workPhone.getTypes().add(TelephoneType.WORK);
+            vCard.addProperty(workPhone);
+        }
 
-                if (contact.getHomePhoneNumber() != null){
-                    Telephone homePhone = new Telephone(contact.getHomePhoneNumber());
-                    homePhone.getTypes().add(TelephoneType.HOME);
-                    vCard.addProperty(homePhone);
-                }
+        if (contact.getWorkEmail() != null) {
+            Email workEmail = new Email(contact.getWorkEmail());
+            workEmail.getTypes().add(EmailType.WORK);
+            vCard.addProperty(workEmail);
+        }
+        return vCard;
+    }
 
-                if (contact.getWorkPhoneNumber() != null){
-                    Telephone workPhone = new Telephone(contact.getWorkPhoneNumber());
-                    workPhone.getTypes().add(TelephoneType.WORK);
-                    vCard.addProperty(workPhone);
+    public void importContacts(InputStream inputStream, long userId, ImportJob job) throws IOException
+    {
+        User user = userRepository.getReferenceById(userId);
+
+        // Cards are read one at a time and persisted in fixed-size batches, so neither the parsed
+        // cards nor the persistence context grow with the size of the file.
+        List<ContactDetails> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        try (VCardReader reader = new VCardReader(inputStream)) {
+            VCard vcard;
+            while ((vcard = reader.readNext()) != null) {
+                job.cardParsed();
+                ContactDetails contact = parseImportedCard(vcard, user);
+                if (contact == null) {
+                    job.cardRejected();
+                    continue;
                 }
-
-                if (contact.getWorkEmail() != null) {
-                    Email workEmail = new Email(contact.getWorkEmail());
-                    workEmail.getTypes().add(EmailType.WORK);
-                    vCard.addProperty(workEmail);
+                batch.add(contact);
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    persistImportBatch(userId, batch, job);
+                    // A fresh list: the persisted one has been handed to the sequencer and the search index
+                    batch = new ArrayList<>(IMPORT_BATCH_SIZE);
                 }
-
-                Ezvcard.write(vCard).go(outputStream);
             }
-
-            byte[] outputData = outputStream.toByteArray();
-            HttpHeaders headers = new HttpHeaders();
-            headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=contacts.vcf");
-
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .contentLength(outputData.length)
-                    .contentType(MediaType.parseMediaType("text/vcard"))
-                    .body(outputData);
-        } catch (Exception e)
-        {
-            log.error(e.getMessage());
-            return ResponseEntity.internalServerError().build();
         }
+        if (!batch.isEmpty()) {
+            persistImportBatch(userId, batch, job);
+        }
+        log.info("{} contacts imported successfully", job.getCardsInserted());
     }
 
-    public ResponseEntity<ErrorResponse> importContacts(MultipartFile file, long userId)
+    private void persistImportBatch(long userId, List<ContactDetails> batch, ImportJob job)
     {
-        try {
-            User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(UserNotFoundException.DEFAULT_MESSAGE));
-
-            List<VCard> vCardsList = Ezvcard.parse(file.getInputStream()).all();
+        job.cardsInserted(changeSequencer.persistNewContacts(userId, batch));
+        contactSearchIndex.contactsSaved(userId, batch);
+    }
 
-            for (VCard vcard : vCardsList)
-            {
-                parseContactDetails(vcard,user);
+    // Returns null for cards that cannot be turned into a valid contact. Cards are validated here, like
+    // batch operations, because a constraint violation at flush time would roll back the whole batch.
+    private ContactDetails parseImportedCard(VCard vcard, User user)
+    {
+        try {
+            ContactDetails contact = parseContactDetails(vcard, user);
+            if (contact.getFirstName() == null || contact.getLastName() == null) {
+                return null;
+            }
+            Set<ConstraintViolation<ContactDetails>> violations = validator.validate(contact);
+            if (!violations.isEmpty()) {
+                log.error("Rejected vCard during import: {}", violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                return null;
             }
-            userRepository.save(user);
-            return new ResponseEntity<>(new ErrorResponse("Contacts imported successfully",true), HttpStatus.OK);
-        } catch (Exception e) {
-            log.error("Error importing contacts: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
+            return contact;
+        } catch (RuntimeException e) {
+            log.error("Rejected vCard during import: {}", e.getMessage());
+            return null;
         }
     }
 
-    public void parseContactDetails(VCard vcard , User user)
+    public ContactDetails parseContactDetails(VCard vcard , User user)
     {
         ContactDetails contact = new ContactDetails();
 
@@ -241,6 +443,6 @@ public class ContactDetailsService {
             }
         }
         contact.setUser(user);
-        user.getSavedContacts().add(contact);
+        return contact;
     }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.example.contactmanager.services;
+
+import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+// Admin scan of every contact as newline-delimited JSON. Rows come from one forward-only cursor and
+// each entity is detached once written, so memory use does not depend on the size of the table.
+@Slf4j
+@Service
+public class ContactScanService
+{
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final ContactDetailsRepository contactDetailsRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter contactWriter;
+
+    public ContactScanService(ContactDetailsRepository contactDetailsRepository, EntityManager entityManager,
+                              PlatformTransactionManager transactionManager, ObjectMapper objectMapper)
+    {
+        this.contactDetailsRepository = contactDetailsRepository;
+        this.entityManager = entityManager;
+        // Postgres only streams a result set with a cursor inside a transaction
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.contactWriter = objectMapper.writerFor(ContactDetails.class);
+    }
+
+    public ResponseEntity<StreamingResponseBody> streamAllContacts()
+    {
+        StreamingResponseBody body = outputStream -> readOnlyTransaction.executeWithoutResult(status -> {
+            long written = 0;
+            try (Stream<ContactDetails> contacts = contactDetailsRepository.streamAllByOrderByIdAsc()) {
+                for (ContactDetails contact : (Iterable<ContactDetails>) contacts::iterator) {
+                    outputStream.write(contactWriter.writeValueAsBytes(contact));
+                    outputStream.write('\n');
+                    entityManager.detach(contact);
+                    if (++written % FLUSH_EVERY == 0) {
+                        outputStream.flush();
+                    }
+                }
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            log.info("{} contacts streamed to an admin scan", written);
+        });
+
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
+    }
+}
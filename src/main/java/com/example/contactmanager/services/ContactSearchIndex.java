@@ -0,0 +1,327 @@
+package com.example.contactmanager.services;
+
+import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * In-process search index. Each active user gets a map of normalized name and email tokens together with
+ * a summary of every contact, built once on the first search and kept current by the contact write paths
+ * once their transaction commits. Text searches are answered from memory without touching the database.
+ * Indexes are rebuilt after a maximum age, the total number of indexed contacts is capped, and users with
+ * very large address books are left to the database search.
+ */
+@Slf4j
+@Component
+public class ContactSearchIndex
+{
+    private static final int BUILD_CHUNK_SIZE = 1000;
+
+    private static final Comparator<IndexedContact> RESULT_ORDER = Comparator
+            .comparing(IndexedContact::lastName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(IndexedContact::firstName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(IndexedContact::id);
+
+    private final ContactDetailsRepository contactDetailsRepository;
+    private final boolean enabled;
+    private final int maxContactsPerUser;
+    private final Cache<Long, UserIndex> indexes;
+
+    public ContactSearchIndex(ContactDetailsRepository contactDetailsRepository,
+                              @Value("${contactmanager.search.typeahead.enabled:true}") boolean enabled,
+                              @Value("${contactmanager.search.typeahead.max-contacts:2000000}") long maxContacts,
+                              @Value("${contactmanager.search.typeahead.max-contacts-per-user:20000}") int maxContactsPerUser,
+                              @Value("${contactmanager.search.typeahead.max-age:15m}") Duration maxAge)
+    {
+        this.contactDetailsRepository = contactDetailsRepository;
+        this.enabled = enabled;
+        this.maxContactsPerUser = maxContactsPerUser;
+        // Weighed by contact count, so the cap holds across all users; the age counts from the build,
+        // which bounds how long changes made by other instances go unseen
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maxContacts)
+                .weigher((Long userId, UserIndex index) -> index.size() + 1)
+                .expireAfterWrite(maxAge)
+                .build();
+    }
+
+    // Summaries of the matching contacts in result order, possibly none; empty when the index cannot answer
+    // this query for this user and the caller should query the database
+    public Optional<List<ContactDetails>> search(long userId, String query, int limit)
+    {
+        if (!enabled || !isTextQuery(query)) {
+            return Optional.empty();
+        }
+        // Registered before loading so that writes during the build are applied to it and not lost. Only the
+        // first search builds it; concurrent searches use the database until it is ready.
+        UserIndex index = indexes.get(userId, key -> new UserIndex());
+        if (index.startBuild()) {
+            build(userId, index);
+        }
+        if (!index.isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(index.search(tokenize(query), limit).stream().map(IndexedContact::toSummary).toList());
+    }
+
+    public void contactSaved(long userId, ContactDetails contact)
+    {
+        if (enabled) {
+            IndexedContact indexed = IndexedContact.of(contact);
+            afterCommit(() -> {
+                UserIndex index = indexes.getIfPresent(userId);
+                if (index != null) {
+                    index.put(indexed, false);
+                }
+            });
+        }
+    }
+
+    public void contactsSaved(long userId, Collection<ContactDetails> contacts)
+    {
+        if (enabled) {
+            List<IndexedContact> indexed = contacts.stream().map(IndexedContact::of).toList();
+            afterCommit(() -> {
+                UserIndex index = indexes.getIfPresent(userId);
+                if (index != null) {
+                    indexed.forEach(contact -> index.put(contact, false));
+                }
+            });
+        }
+    }
+
+    public void contactRemoved(long userId, long contactId)
+    {
+        if (enabled) {
+            afterCommit(() -> {
+                UserIndex index = indexes.getIfPresent(userId);
+                if (index != null) {
+                    index.remove(contactId);
+                }
+            });
+        }
+    }
+
+    // A rolled back write must not reach the index, so changes made inside a transaction wait for its commit
+    private static void afterCommit(Runnable change)
+    {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private void build(long userId, UserIndex index)
+    {
+        try {
+            long lastId = 0;
+            List<ContactDetails> chunk;
+            do {
+                chunk = contactDetailsRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, lastId, PageRequest.of(0, BUILD_CHUNK_SIZE));
+                for (ContactDetails contact : chunk) {
+                    index.put(IndexedContact.of(contact), true);
+                    lastId = contact.getId();
+                }
+                if (index.size() > maxContactsPerUser) {
+                    index.markOversized();
+                    log.info("Address book of user {} is too large for the search index", userId);
+                    return;
+                }
+            } while (chunk.size() == BUILD_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            // A later search starts a new build instead of finding this one unfinished until it expires
+            indexes.asMap().remove(userId, index);
+            throw e;
+        }
+        index.buildFinished();
+        // Re-weighed now that it is full, which may evict other users' indexes
+        indexes.asMap().replace(userId, index, index);
+    }
+
+    // The indexed fields of a contact and the summary returned for it; the title and the home and work
+    // numbers are not kept in memory
+    private record IndexedContact(long id, String firstName, String lastName, String personalEmail, String workEmail,
+                                  String personalPhoneNumber, long changeSeq)
+    {
+        static IndexedContact of(ContactDetails contact)
+        {
+            return new IndexedContact(contact.getId(), contact.getFirstName(), contact.getLastName(),
+                    contact.getPersonalEmail(), contact.getWorkEmail(), contact.getPersonalPhoneNumber(), contact.getChangeSeq());
+        }
+
+        ContactDetails toSummary()
+        {
+            ContactDetails summary = new ContactDetails();
+            summary.setId(id);
+            summary.setFirstName(firstName);
+            summary.setLastName(lastName);
+            summary.setPersonalEmail(personalEmail);
+            summary.setWorkEmail(workEmail);
+            summary.setPersonalPhoneNumber(personalPhoneNumber);
+            summary.setChangeSeq(changeSeq);
+            return summary;
+        }
+    }
+
+    // Only names and emails are indexed; digits mean a phone number the index knows nothing about
+    static boolean isTextQuery(String query)
+    {
+        return query != null && !query.isBlank() && query.chars().noneMatch(Character::isDigit);
+    }
+
+    static List<String> tokenize(String text)
+    {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static final class UserIndex
+    {
+        private final Map<String, Set<Long>> tokens = new HashMap<>();
+        private final Map<Long, IndexedContact> contacts = new HashMap<>();
+        private Set<Long> removedDuringBuild = new HashSet<>();
+        private boolean building;
+        private boolean oversized;
+
+        synchronized void put(IndexedContact contact, boolean fromBuild)
+        {
+            if (oversized) {
+                return;
+            }
+            if (fromBuild && (contacts.containsKey(contact.id()) || removedDuringBuild.contains(contact.id()))) {
+                return;
+            }
+            remove(contact.id());
+            contacts.put(contact.id(), contact);
+            for (String token : contactTokens(contact)) {
+                tokens.computeIfAbsent(token, key -> new HashSet<>()).add(contact.id());
+            }
+        }
+
+        synchronized void remove(long contactId)
+        {
+            if (removedDuringBuild != null) {
+                removedDuringBuild.add(contactId);
+            }
+            IndexedContact previous = contacts.remove(contactId);
+            if (previous == null) {
+                return;
+            }
+            for (String token : contactTokens(previous)) {
+                Set<Long> ids = tokens.get(token);
+                if (ids != null && ids.remove(contactId) && ids.isEmpty()) {
+                    tokens.remove(token);
+                }
+            }
+        }
+
+        // Contacts for which every query token is part of one of their tokens, matching substrings like the
+        // database search does
+        synchronized List<IndexedContact> search(List<String> queryTokens, int limit)
+        {
+            Set<Long> matches = null;
+            for (String queryToken : queryTokens) {
+                Set<Long> tokenMatches = new HashSet<>();
+                for (Map.Entry<String, Set<Long>> token : tokens.entrySet()) {
+                    if (token.getKey().contains(queryToken)) {
+                        tokenMatches.addAll(token.getValue());
+                    }
+                }
+                if (matches == null) {
+                    matches = tokenMatches;
+                } else {
+                    matches.retainAll(tokenMatches);
+                }
+                if (matches.isEmpty()) {
+                    break;
+                }
+            }
+            if (matches == null) {
+                return new ArrayList<>();
+            }
+            List<IndexedContact> results = new ArrayList<>(matches.size());
+            for (Long id : matches) {
+                results.add(contacts.get(id));
+            }
+            results.sort(RESULT_ORDER);
+            return results.stream().limit(limit).toList();
+        }
+
+        // True for the one caller that is to build this index
+        synchronized boolean startBuild()
+        {
+            if (building) {
+                return false;
+            }
+            building = true;
+            return true;
+        }
+
+        // Built completely and small enough to answer searches
+        synchronized boolean isReady()
+        {
+            return removedDuringBuild == null && !oversized;
+        }
+
+        synchronized int size()
+        {
+            return contacts.size();
+        }
+
+        synchronized void buildFinished()
+        {
+            removedDuringBuild = null;
+        }
+
+        synchronized void markOversized()
+        {
+            oversized = true;
+            tokens.clear();
+            contacts.clear();
+            removedDuringBuild = null;
+        }
+
+        private static List<String> contactTokens(IndexedContact contact)
+        {
+            List<String> contactTokens = new ArrayList<>();
+            contactTokens.addAll(tokenize(contact.firstName()));
+            contactTokens.addAll(tokenize(contact.lastName()));
+            contactTokens.addAll(tokenize(contact.personalEmail()));
+            contactTokens.addAll(tokenize(contact.workEmail()));
+            return contactTokens;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.contactmanager.services;
+
+import com.example.contactmanager.customexceptions.ContactNotFoundException;
+import com.example.contactmanager.dto.SearchResponse;
+import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.repositories.ContactDetailsRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@Timed("contactmanager.service")
+public class ContactSearchService
+{
+    private static final int MAX_SEARCH_RESULTS = 100;
+
+    private final ContactDetailsRepository contactDetailsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ContactSearchIndex contactSearchIndex;
+    private final String searchMode;
+
+    // True once the pg_trgm index is in place; otherwise the first-name substring query is used
+    private volatile boolean trigramSearch;
+
+    public ContactSearchService(ContactDetailsRepository contactDetailsRepository, JdbcTemplate jdbcTemplate, ContactSearchIndex contactSearchIndex,
+                                @Value("${contactmanager.search.mode:auto}") String searchMode)
+    {
+        this.contactDetailsRepository = contactDetailsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.contactSearchIndex = contactSearchIndex;
+        this.searchMode = searchMode;
+        this.trigramSearch = searchMode.equals("trigram");
+    }
+
+    // The trigram index is created by the V2 migration when pg_trgm could be installed
+    @PostConstruct
+    public void detectSearchIndex()
+    {
+        if (searchMode.equals("basic")) {
+            return;
+        }
+        try {
+            Integer indexes = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_indexes WHERE indexname = 'idx_contact_details_search_trgm'", Integer.class);
+            trigramSearch = indexes != null && indexes > 0;
+        } catch (DataAccessException e) {
+            log.info("Could not look up the trigram index: {}", e.getMessage());
+        }
+        if (trigramSearch) {
+            log.info("Trigram contact search enabled");
+        } else if (searchMode.equals("trigram")) {
+            throw new IllegalStateException("contactmanager.search.mode=trigram but the pg_trgm index does not exist");
+        } else {
+            log.info("Trigram search unavailable, falling back to first name search");
+        }
+    }
+
+    public ResponseEntity<SearchResponse> search(long userId, String name, int limit)
+    {
+        int maxResults = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        // Name and email searches are answered from the in-memory index, matches or not, with contact
+        // summaries; phone numbers, and users whose index is not ready, go to the database search
+        Optional<List<ContactDetails>> indexed = contactSearchIndex.search(userId, name, maxResults);
+        List<ContactDetails> contacts = indexed.isPresent() ? indexed.get() : searchDatabase(userId, name, maxResults);
+
+        if (contacts.isEmpty()) {
+            throw new ContactNotFoundException("Contact not found");
+        }
+        return new ResponseEntity<>(new SearchResponse(contacts, "Contacts Found Successfully", true), HttpStatus.OK);
+    }
+
+    private List<ContactDetails> searchDatabase(long userId, String name, int maxResults)
+    {
+        if (trigramSearch) {
+            String query = name.trim().toLowerCase(Locale.ROOT);
+            return contactDetailsRepository.searchRanked(userId, query, "%" + escapeLikePattern(query) + "%", maxResults);
+        }
+        return contactDetailsRepository.findByUserIdAndFirstNameContainingIgnoreCase(userId, name, PageRequest.of(0, maxResults));
+    }
+
+    private static String escapeLikePattern(String value)
+    {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -3,29 +3,43 @@ package com.example.contactmanager.services;
 import com.example.contactmanager.customexceptions.UserNotFoundException;
 import com.example.contactmanager.model.User;
 import com.example.contactmanager.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService
 {
 
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     private final UserRepository userRepository;
+    private final Set<String> adminEmails;
 
-    public CustomUserDetailsService(UserRepository userRepository)
+    public CustomUserDetailsService(UserRepository userRepository, @Value("${contactmanager.admin.emails:}") List<String> adminEmails)
     {
         this.userRepository = userRepository;
+        this.adminEmails = adminEmails.stream()
+                .map(String::trim)
+                .filter(email -> !email.isEmpty())
+                .map(String::toLowerCase)
+                .collect(Collectors.toSet());
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
             User user = userRepository.findByEmail(email)
                     .orElseThrow(()->new UserNotFoundException("User Not Found"));
-            return new org.springframework.security.core.userdetails.User(user.getEmail(), user.getPassword(),
-                    new ArrayList<>());
+            return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword(),
+                    adminEmails.contains(user.getEmail().toLowerCase()) ? ADMIN_AUTHORITIES : new ArrayList<>());
     }
 }
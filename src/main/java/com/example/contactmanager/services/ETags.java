@@ -0,0 +1,30 @@
+package com.example.contactmanager.services;
+
+// Strong entity tags built from change sequence numbers, and If-None-Match matching
+final class ETags
+{
+    private ETags() {
+    }
+
+    static String contact(long contactId, long changeSeq) {
+        return "\"c" + contactId + "-" + changeSeq + "\"";
+    }
+
+    // The user's change sequence moves on every create, update and delete of one of their contacts
+    static String userContacts(String view, long userId, long userChangeSeq) {
+        return "\"" + view + "-u" + userId + "-" + userChangeSeq + "\"";
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.contactmanager.services;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ImportJob
+{
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final long userId;
+    private volatile Status status = Status.QUEUED;
+    private volatile String message = "Import queued";
+    private final AtomicLong cardsParsed = new AtomicLong();
+    private final AtomicLong cardsInserted = new AtomicLong();
+    private final AtomicLong cardsRejected = new AtomicLong();
+    private volatile long startedAtNanos;
+    private volatile long finishedAtNanos;
+    private volatile long finishedAtMillis;
+
+    public ImportJob(String id, long userId) {
+        this.id = id;
+        this.userId = userId;
+    }
+
+    public void start() {
+        startedAtNanos = System.nanoTime();
+        status = Status.RUNNING;
+        message = "Import running";
+    }
+
+    public void complete() {
+        finish(Status.COMPLETED, "Contacts imported successfully");
+    }
+
+    public void fail(String message) {
+        finish(Status.FAILED, message);
+    }
+
+    private void finish(Status status, String message) {
+        finishedAtNanos = System.nanoTime();
+        finishedAtMillis = System.currentTimeMillis();
+        this.message = message;
+        this.status = status;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    // Inserted cards per second since the job started
+    public double getThroughput() {
+        if (startedAtNanos == 0) {
+            return 0;
+        }
+        long end = finishedAtNanos != 0 ? finishedAtNanos : System.nanoTime();
+        double seconds = (end - startedAtNanos) / 1_000_000_000.0;
+        return seconds > 0 ? cardsInserted.get() / seconds : 0;
+    }
+
+    public void cardParsed() {
+        cardsParsed.incrementAndGet();
+    }
+
+    public void cardRejected() {
+        cardsRejected.incrementAndGet();
+    }
+
+    public void cardsInserted(int count) {
+        cardsInserted.addAndGet(count);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public long getCardsParsed() {
+        return cardsParsed.get();
+    }
+
+    public long getCardsInserted() {
+        return cardsInserted.get();
+    }
+
+    public long getCardsRejected() {
+        return cardsRejected.get();
+    }
+
+    public long getFinishedAtMillis() {
+        return finishedAtMillis;
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.contactmanager.services;
+
+import com.example.contactmanager.customexceptions.ImportJobNotFoundException;
+import com.example.contactmanager.dto.ImportJobResponse;
+import com.example.contactmanager.metrics.ContactMetrics;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@Timed("contactmanager.service")
+public class ImportJobService
+{
+    private final ContactDetailsService contactDetailsService;
+    private final ContactMetrics contactMetrics;
+    private final ThreadPoolTaskExecutor importExecutor;
+    private final Duration jobRetention;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(ContactDetailsService contactDetailsService, ContactMetrics contactMetrics,
+                            @Value("${contactmanager.import.threads:2}") int threads,
+                            @Value("${contactmanager.import.queue-capacity:20}") int queueCapacity,
+                            @Value("${contactmanager.import.job-retention:1h}") Duration jobRetention,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads)
+    {
+        this.contactDetailsService = contactDetailsService;
+        this.contactMetrics = contactMetrics;
+        this.jobRetention = jobRetention;
+
+        // Bounded pool: once the queue is full further uploads are turned away instead of piling up
+        this.importExecutor = new ThreadPoolTaskExecutor();
+        importExecutor.setCorePoolSize(threads);
+        importExecutor.setMaxPoolSize(threads);
+        importExecutor.setQueueCapacity(queueCapacity);
+        importExecutor.setThreadNamePrefix("contact-import-");
+        if (virtualThreads) {
+            // Still bounded by the pool size and queue; the workers just stop costing a platform thread while they wait on JDBC
+            importExecutor.setThreadFactory(Thread.ofVirtual().name("contact-import-", 1).factory());
+        }
+        importExecutor.initialize();
+    }
+
+    public ResponseEntity<ImportJobResponse> submitImport(MultipartFile file, long userId)
+    {
+        purgeFinishedJobs();
+
+        Path spoolFile;
+        try {
+            spoolFile = Files.createTempFile("contacts-import-", ".vcf");
+            file.transferTo(spoolFile);
+        } catch (IOException e) {
+            log.error("Error spooling import file: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), userId);
+        jobs.put(job.getId(), job);
+        try {
+            importExecutor.execute(() -> runImport(job, spoolFile));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            deleteSpoolFile(spoolFile);
+            log.error("Import rejected, the import queue is full");
+            return new ResponseEntity<>(new ImportJobResponse(null, null, 0, 0, 0, 0, "Import queue is full, try again later", false), HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        log.info("Import job {} queued", job.getId());
+        return new ResponseEntity<>(toResponse(job), HttpStatus.ACCEPTED);
+    }
+
+    public ResponseEntity<ImportJobResponse> getImportStatus(long userId, String jobId)
+    {
+        ImportJob job = jobs.get(jobId);
+        if (job == null || job.getUserId() != userId) {
+            throw new ImportJobNotFoundException("Import job not found");
+        }
+        return new ResponseEntity<>(toResponse(job), HttpStatus.OK);
+    }
+
+    private ImportJobResponse toResponse(ImportJob job)
+    {
+        return new ImportJobResponse(job.getId(), job.getStatus().name(), job.getCardsParsed(), job.getCardsInserted(),
+                job.getCardsRejected(), job.getThroughput(), job.getMessage(), job.getStatus() != ImportJob.Status.FAILED);
+    }
+
+    private void runImport(ImportJob job, Path spoolFile)
+    {
+        job.start();
+        try (InputStream inputStream = Files.newInputStream(spoolFile)) {
+            contactDetailsService.importContacts(inputStream, job.getUserId(), job);
+            job.complete();
+            contactMetrics.importFinished(Files.size(spoolFile), job.getCardsInserted(), job.getCardsRejected());
+            log.info("Import job {} finished: {} inserted, {} rejected", job.getId(), job.getCardsInserted(), job.getCardsRejected());
+        } catch (Exception e) {
+            job.fail("Error importing contacts");
+            log.error("Import job {} failed: {}", job.getId(), e.getMessage(), e);
+        } finally {
+            deleteSpoolFile(spoolFile);
+        }
+    }
+
+    private void purgeFinishedJobs()
+    {
+        long cutoff = System.currentTimeMillis() - jobRetention.toMillis();
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAtMillis() < cutoff);
+    }
+
+    private void deleteSpoolFile(Path spoolFile)
+    {
+        try {
+            Files.deleteIfExists(spoolFile);
+        } catch (IOException e) {
+            log.error("Could not delete import spool file {}", spoolFile, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown()
+    {
+        importExecutor.shutdown();
+    }
+}
@@ -3,33 +3,35 @@ package com.example.contactmanager.services;
 import com.example.contactmanager.customexceptions.KeyErrorException;
 import com.example.contactmanager.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import java.security.NoSuchAlgorithmException;
-import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 @Service
 public class JwtService {
-    private String secretKey;
+
+    // The signing key and the verifying parser are immutable and thread safe, so both are built once
+    private final SecretKey key;
+    private final JwtParser parser;
 
     public JwtService() {
         try {
             KeyGenerator keyGen = KeyGenerator.getInstance("HmacSHA256");
-            SecretKey myKey = keyGen.generateKey();
-            this.secretKey = Base64.getEncoder().encodeToString(myKey.getEncoded());
+            this.key = keyGen.generateKey();
         } catch (NoSuchAlgorithmException e) {
             throw new KeyErrorException(e.getMessage());
         }
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     public String generateToken(User userDetails)
@@ -44,45 +46,23 @@ public class JwtService {
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000))
                 .and()
-                .signWith(getKey())
+                .signWith(key)
                 .compact();
     }
 
-    private SecretKey getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
-    public String extractEmail(String token)
+    // Verifies the signature and decodes the claims; callers should parse a token only once
+    public Claims parseClaims(String token)
     {
-           return extractClaim(token, Claims::getSubject);
-    }
-
-    private <T> T extractClaim(String token, Function<Claims,T> claimResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    public boolean validateToken(String token, UserDetails userDetails) {
-        final String userEmail = extractEmail(token);
-        return (userEmail.equals(userDetails.getUsername()) && !isTokenExpired(token));
-
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-
+    public VerifiedToken verify(String token)
+    {
+        Claims claims = parseClaims(token);
+        return new VerifiedToken(claims.getSubject(), claims.get("user_id", Long.class), claims.getExpiration());
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean validateToken(VerifiedToken verifiedToken, UserDetails userDetails) {
+        return verifiedToken.getSubject().equals(userDetails.getUsername()) && !verifiedToken.getExpiration().before(new Date());
     }
 }
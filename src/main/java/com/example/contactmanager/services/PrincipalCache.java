@@ -0,0 +1,59 @@
+package com.example.contactmanager.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Authenticated principals keyed by email, so that requests carrying a valid token do not look the
+ * user up again. Entries are bounded in number, expire after a short time and are removed when the
+ * user's credentials change.
+ */
+@Component
+public class PrincipalCache implements UserCache
+{
+    private final Cache<String, UserDetails> principals;
+
+    public PrincipalCache(@Value("${contactmanager.security.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${contactmanager.security.principal-cache.ttl:5m}") Duration ttl)
+    {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username)
+    {
+        return principals.getIfPresent(username);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user)
+    {
+        // The password hash is not needed to authorise token requests, so it is not kept in memory
+        if (user instanceof CredentialsContainer credentials) {
+            credentials.eraseCredentials();
+        }
+        principals.put(user.getUsername(), user);
+    }
+
+    @Override
+    public void removeUserFromCache(String username)
+    {
+        principals.invalidate(username);
+    }
+
+    public Cache<String, UserDetails> getCache()
+    {
+        return principals;
+    }
+}
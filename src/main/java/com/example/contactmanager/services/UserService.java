@@ -4,8 +4,10 @@ import com.example.contactmanager.customexceptions.UserNotFoundException;
 import com.example.contactmanager.dto.ChangePasswordResponse;
 import com.example.contactmanager.dto.LoginResponse;
 import com.example.contactmanager.dto.SignupResponse;
+import com.example.contactmanager.dto.UserProfileResponse;
 import com.example.contactmanager.model.User;
 import com.example.contactmanager.repositories.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
+@Timed("contactmanager.service")
 public class UserService
 {
 
@@ -23,17 +26,20 @@ public class UserService
 
     private final JwtService jwtService;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService)
+    private final PrincipalCache principalCache;
+
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService, PrincipalCache principalCache)
     {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.principalCache = principalCache;
     }
 
-    public ResponseEntity<User> getData(long userId)
+    public ResponseEntity<UserProfileResponse> getData(long userId)
     {
-        User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(UserNotFoundException.DEFAULT_MESSAGE));
-        return new ResponseEntity<>(user, HttpStatus.OK);
+        UserProfileResponse profile = userRepository.findProfileById(userId).orElseThrow(() -> new UserNotFoundException(UserNotFoundException.DEFAULT_MESSAGE));
+        return new ResponseEntity<>(profile, HttpStatus.OK);
     }
 
     public ResponseEntity<SignupResponse> createUser(User user)
@@ -85,6 +91,7 @@ public class UserService
 
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        principalCache.removeUserFromCache(user.getEmail());
 
         log.info("Password changed Successfully");
         return new ResponseEntity<>(new ChangePasswordResponse("Password Changed Successfully",true), HttpStatus.OK);
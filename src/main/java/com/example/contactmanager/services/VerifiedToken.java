@@ -0,0 +1,29 @@
+package com.example.contactmanager.services;
+
+import java.util.Date;
+
+// The parts of an already verified token that requests need
+public class VerifiedToken
+{
+    private final String subject;
+    private final Long userId;
+    private final Date expiration;
+
+    public VerifiedToken(String subject, Long userId, Date expiration) {
+        this.subject = subject;
+        this.userId = userId;
+        this.expiration = expiration;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Date getExpiration() {
+        return expiration;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.contactmanager.services;
+
+import com.example.contactmanager.customexceptions.KeyErrorException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Verified claims keyed by the SHA-256 digest of the bearer token. Clients reuse one token for many
+ * calls, and a hit skips signature verification and claim parsing. Each entry expires with its token.
+ */
+@Component
+public class VerifiedTokenCache
+{
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> tokens;
+
+    public VerifiedTokenCache(@Value("${contactmanager.security.token-cache.enabled:true}") boolean enabled,
+                              @Value("${contactmanager.security.token-cache.max-size:50000}") int maxSize,
+                              @Value("${contactmanager.security.token-cache.max-ttl:1h}") Duration maxTtl)
+    {
+        this.enabled = enabled;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(maxTtl.toNanos()))
+                .recordStats()
+                .build();
+    }
+
+    public VerifiedToken getOrVerify(String token, Function<String, VerifiedToken> verifier)
+    {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        String digest = digest(token);
+        // Verified outside the cache, so a miss never holds a lock while the signature is checked
+        VerifiedToken verified = tokens.getIfPresent(digest);
+        if (verified == null) {
+            verified = verifier.apply(token);
+            tokens.put(digest, verified);
+        }
+        return verified;
+    }
+
+    public Cache<String, VerifiedToken> getCache()
+    {
+        return tokens;
+    }
+
+    // An entry lives until its token expires, but never longer than the configured maximum
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<String, VerifiedToken>
+    {
+        @Override
+        public long expireAfterCreate(String digest, VerifiedToken token, long currentTime)
+        {
+            long remainingMillis = Math.max(0, token.getExpiration().getTime() - System.currentTimeMillis());
+            return Math.min(maxTtlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration)
+        {
+            return expireAfterCreate(digest, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration)
+        {
+            return currentDuration;
+        }
+    }
+
+    private static String digest(String token)
+    {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new KeyErrorException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package db.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Contact and user indexes, built with CREATE INDEX CONCURRENTLY so that tables already holding data stay
+ * writable while they build. Postgres refuses CONCURRENTLY inside a transaction and inside a DO block, and
+ * the trigram index depends on whether pg_trgm can be installed, so this is a non-transactional Java
+ * migration rather than SQL. A failed concurrent build leaves an invalid index behind, which has to be
+ * dropped before the migration is repeated.
+ */
+@Slf4j
+public class V2__contact_indexes extends BaseJavaMigration
+{
+    // Must stay identical to ContactDetailsRepository.SEARCH_TEXT
+    private static final String SEARCH_TEXT = "lower(coalesce(first_name, '') || ' ' || coalesce(last_name, '') || ' ' || coalesce(personal_email, '') || ' ' "
+            + "|| coalesce(work_email, '') || ' ' || coalesce(personal_phone_number, '') || ' ' || coalesce(home_phone_number, '') || ' ' "
+            + "|| coalesce(work_phone_number, ''))";
+
+    // Not allowed to create the extension, its files are not installed on the server, or the server does not support it
+    private static final Set<String> EXTENSION_UNAVAILABLE = Set.of("42501", "58P01", "0A000");
+
+    @Override
+    public boolean canExecuteInTransaction()
+    {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception
+    {
+        try (Statement statement = context.getConnection().createStatement()) {
+            // Sorted contact listing and keyset paging: WHERE user_id = ? ORDER BY last_name, first_name, id.
+            // Its leading column also serves every other per-user lookup and the user_id foreign key.
+            statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contact_details_user_name "
+                    + "ON contact_details (user_id, last_name, first_name, id)");
+
+            // Login and every authenticated request look users up by email; emails are unique regardless of case.
+            // Fails if the table already holds emails that differ only in case; those must be merged first.
+            statement.execute("CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_users_email_lower ON users (lower(email))");
+
+            // Substring contact search. Without pg_trgm the index is skipped and ContactSearchService falls back
+            // to first name matching.
+            if (installTrigramExtension(statement)) {
+                statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contact_details_search_trgm "
+                        + "ON contact_details USING gin ((" + SEARCH_TEXT + ") gin_trgm_ops)");
+            }
+        }
+    }
+
+    // pg_trgm may not be installable by the application's role, or not shipped with the server at all
+    private static boolean installTrigramExtension(Statement statement) throws SQLException
+    {
+        try {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            return true;
+        } catch (SQLException e) {
+            if (!EXTENSION_UNAVAILABLE.contains(e.getSQLState())) {
+                throw e;
+            }
+            log.info("pg_trgm is not available ({}), skipping the contact search index", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+-- Baseline of the schema previously generated by hibernate.ddl-auto=update.
+-- Written to be idempotent so it also applies cleanly to databases that were created by Hibernate.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS contact_details_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS contact_tombstones_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS users (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    email      VARCHAR(255),
+    password   VARCHAR(255),
+    change_seq BIGINT       DEFAULT 0 NOT NULL
+);
+ALTER TABLE users ADD COLUMN IF NOT EXISTS change_seq BIGINT DEFAULT 0 NOT NULL;
+
+CREATE TABLE IF NOT EXISTS contact_details (
+    id                    BIGINT       NOT NULL PRIMARY KEY,
+    first_name            VARCHAR(255),
+    last_name             VARCHAR(255),
+    title                 VARCHAR(255),
+    work_email            VARCHAR(255),
+    personal_email        VARCHAR(255),
+    home_phone_number     VARCHAR(255),
+    work_phone_number     VARCHAR(255),
+    personal_phone_number VARCHAR(255),
+    change_seq            BIGINT       DEFAULT 0 NOT NULL,
+    user_id               BIGINT       REFERENCES users (id)
+);
+ALTER TABLE contact_details ADD COLUMN IF NOT EXISTS change_seq BIGINT DEFAULT 0 NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_contact_details_user_change_seq ON contact_details (user_id, change_seq);
+
+CREATE TABLE IF NOT EXISTS contact_tombstones (
+    id         BIGINT                   NOT NULL PRIMARY KEY,
+    user_id    BIGINT                   NOT NULL,
+    contact_id BIGINT                   NOT NULL,
+    change_seq BIGINT                   NOT NULL,
+    deleted_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_contact_tombstones_user_change_seq ON contact_tombstones (user_id, change_seq);
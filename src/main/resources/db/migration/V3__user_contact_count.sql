@@ -0,0 +1,9 @@
+-- Denormalized size of each user's address book, kept current by ChangeSequencer in the same UPDATE that
+-- advances change_seq, so paged listings and the profile never count contact_details rows.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS contact_count BIGINT DEFAULT 0 NOT NULL;
+
+-- One-off backfill from the existing contacts
+UPDATE users u
+SET contact_count = c.contacts
+FROM (SELECT user_id, count(*) AS contacts FROM contact_details GROUP BY user_id) c
+WHERE c.user_id = u.id;
@@ -0,0 +1,18 @@
+-- Contacts that existed before change sequences were introduced still carry change_seq 0, so a first
+-- delta sync (changes after 0) never returned them. Number them after each user's current sequence,
+-- in id order, and advance users.change_seq past them so new writes keep counting upwards.
+WITH numbered AS (
+    SELECT c.id, u.change_seq + row_number() OVER (PARTITION BY c.user_id ORDER BY c.id) AS change_seq
+    FROM contact_details c
+    JOIN users u ON u.id = c.user_id
+    WHERE c.change_seq = 0
+)
+UPDATE contact_details c
+SET change_seq = n.change_seq
+FROM numbered n
+WHERE n.id = c.id;
+
+UPDATE users u
+SET change_seq = s.max_change_seq
+FROM (SELECT user_id, max(change_seq) AS max_change_seq FROM contact_details GROUP BY user_id) s
+WHERE s.user_id = u.id AND s.max_change_seq > u.change_seq;
@@ -0,0 +1,90 @@
+package com.example.contactmanager.ContactTests;
+
+import com.example.contactmanager.customexceptions.UserNotFoundException;
+import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.model.ContactTombstone;
+import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.example.contactmanager.repositories.ContactTombstoneRepository;
+import com.example.contactmanager.repositories.UserRepository;
+import com.example.contactmanager.services.ChangeSequencer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeSequencerTest
+{
+    @InjectMocks
+    ChangeSequencer changeSequencer;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    ContactDetailsRepository contactDetailsRepository;
+
+    @Mock
+    ContactTombstoneRepository contactTombstoneRepository;
+
+    @Test
+    void testContactsChanged_NumbersContactsConsecutively() {
+        long userId = 1L;
+        ContactDetails first = new ContactDetails();
+        ContactDetails second = new ContactDetails();
+
+        when(userRepository.advanceChangeSeq(userId, 2, 0)).thenReturn(1);
+        when(userRepository.findChangeSeqById(userId)).thenReturn(Optional.of(12L));
+
+        changeSequencer.contactsChanged(userId, Arrays.asList(first, second));
+
+        assertEquals(11L, first.getChangeSeq());
+        assertEquals(12L, second.getChangeSeq());
+    }
+
+    @Test
+    void testPersistNewContacts_CountsBatchInOneIncrement() {
+        long userId = 1L;
+        List<ContactDetails> batch = Arrays.asList(new ContactDetails(), new ContactDetails(), new ContactDetails());
+
+        when(userRepository.advanceChangeSeq(userId, 3, 3)).thenReturn(1);
+        when(userRepository.findChangeSeqById(userId)).thenReturn(Optional.of(3L));
+        when(contactDetailsRepository.persistBatch(batch)).thenReturn(3);
+
+        assertEquals(3, changeSequencer.persistNewContacts(userId, batch));
+        verify(userRepository).advanceChangeSeq(userId, 3, 3);
+        assertEquals(3L, batch.get(2).getChangeSeq());
+    }
+
+    @Test
+    void testContactsDeleted_WritesTombstones() {
+        long userId = 1L;
+
+        when(userRepository.advanceChangeSeq(userId, 1, -1)).thenReturn(1);
+        when(userRepository.findChangeSeqById(userId)).thenReturn(Optional.of(4L));
+
+        changeSequencer.contactsDeleted(userId, List.of(7L));
+
+        ArgumentCaptor<List<ContactTombstone>> tombstoneCaptor = ArgumentCaptor.forClass(List.class);
+        verify(contactTombstoneRepository).saveAll(tombstoneCaptor.capture());
+        assertEquals(7L, tombstoneCaptor.getValue().get(0).getContactId());
+        assertEquals(4L, tombstoneCaptor.getValue().get(0).getChangeSeq());
+    }
+
+    @Test
+    void testReserve_UserNotFound() {
+        when(userRepository.advanceChangeSeq(1L, 1, 0)).thenReturn(0);
+
+        assertThrows(UserNotFoundException.class, () -> changeSequencer.reserve(1L, 1));
+    }
+}
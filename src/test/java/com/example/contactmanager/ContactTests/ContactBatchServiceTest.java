@@ -0,0 +1,136 @@
+package com.example.contactmanager.ContactTests;
+
+import com.example.contactmanager.dto.ContactBatchOperation;
+import com.example.contactmanager.dto.ContactBatchRequest;
+import com.example.contactmanager.dto.ContactBatchResponse;
+import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.model.User;
+import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.example.contactmanager.repositories.UserRepository;
+import com.example.contactmanager.services.ChangeSequencer;
+import com.example.contactmanager.services.ContactBatchService;
+import com.example.contactmanager.services.ContactSearchIndex;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContactBatchServiceTest
+{
+    @Mock
+    ContactDetailsRepository contactDetailsRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    ContactSearchIndex contactSearchIndex;
+
+    @Mock
+    ChangeSequencer changeSequencer;
+
+    ContactBatchService contactBatchService;
+
+    @BeforeEach
+    void setUp() {
+        contactBatchService = new ContactBatchService(contactDetailsRepository, userRepository, contactSearchIndex, changeSequencer,
+                Validation.buildDefaultValidatorFactory().getValidator(), 3);
+    }
+
+    private ContactDetails contact(String firstName) {
+        return new ContactDetails(firstName, "Doe", "Mr.", "john.doe@company.com", "john.personal@example.com",
+                "03121234567", "02131234567", "03011234567");
+    }
+
+    @Test
+    void testApplyBatch_MixedOperations() {
+        long userId = 1L;
+        ContactDetails stored = contact("John");
+        stored.setId(10L);
+        ContactDetails deleted = contact("Jack");
+        deleted.setId(20L);
+
+        when(contactDetailsRepository.findByUserIdAndIdIn(userId, List.of(10L))).thenReturn(new ArrayList<>(List.of(stored)));
+        when(contactDetailsRepository.findByUserIdAndIdIn(userId, List.of(20L))).thenReturn(List.of(deleted));
+        when(userRepository.getReferenceById(userId)).thenReturn(new User());
+        when(changeSequencer.persistNewContacts(eq(userId), anyList())).thenAnswer(invocation -> {
+            List<ContactDetails> contacts = invocation.getArgument(1);
+            contacts.forEach(contact -> contact.setId(30L));
+            return contacts.size();
+        });
+
+        ContactBatchRequest request = new ContactBatchRequest(Arrays.asList(
+                new ContactBatchOperation(ContactBatchOperation.Type.UPDATE, 10L, contact("Johnny")),
+                new ContactBatchOperation(ContactBatchOperation.Type.DELETE, 20L, null),
+                new ContactBatchOperation(ContactBatchOperation.Type.CREATE, null, contact("Jane"))));
+
+        ResponseEntity<ContactBatchResponse> response = contactBatchService.applyBatch(userId, request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().isSuccess());
+        assertEquals(1, response.getBody().getCreated());
+        assertEquals(1, response.getBody().getUpdated());
+        assertEquals(1, response.getBody().getDeleted());
+        assertEquals("Johnny", stored.getFirstName());
+        assertEquals(30L, response.getBody().getResults().get(2).getId());
+        assertEquals(201, response.getBody().getResults().get(2).getStatus());
+        verify(contactDetailsRepository).deleteAll(List.of(deleted));
+        verify(contactSearchIndex).contactRemoved(userId, 20L);
+        verify(changeSequencer).contactsChanged(userId, List.of(stored));
+        verify(changeSequencer).contactsDeleted(userId, List.of(20L));
+    }
+
+    @Test
+    void testApplyBatch_ReportsInvalidAndMissingItems() {
+        long userId = 1L;
+        ContactDetails invalid = contact("");
+
+        when(contactDetailsRepository.findByUserIdAndIdIn(eq(userId), anyCollection())).thenReturn(List.of());
+
+        ContactBatchRequest request = new ContactBatchRequest(Arrays.asList(
+                new ContactBatchOperation(ContactBatchOperation.Type.CREATE, null, invalid),
+                new ContactBatchOperation(ContactBatchOperation.Type.DELETE, 99L, null),
+                new ContactBatchOperation(ContactBatchOperation.Type.DELETE, 99L, null)));
+
+        ResponseEntity<ContactBatchResponse> response = contactBatchService.applyBatch(userId, request);
+
+        assertFalse(response.getBody().isSuccess());
+        assertEquals(3, response.getBody().getFailed());
+        assertEquals(400, response.getBody().getResults().get(0).getStatus());
+        assertTrue(response.getBody().getResults().get(0).getMessage().contains("firstName"));
+        assertEquals(404, response.getBody().getResults().get(1).getStatus());
+        assertEquals(409, response.getBody().getResults().get(2).getStatus());
+        verify(changeSequencer, never()).persistNewContacts(anyLong(), anyList());
+        verify(changeSequencer, never()).contactsDeleted(eq(userId), eq(List.of(99L)));
+    }
+
+    @Test
+    void testApplyBatch_TooManyOperations() {
+        ContactBatchOperation delete = new ContactBatchOperation(ContactBatchOperation.Type.DELETE, 1L, null);
+        ContactBatchRequest request = new ContactBatchRequest(Arrays.asList(delete, delete, delete, delete));
+
+        ResponseEntity<ContactBatchResponse> response = contactBatchService.applyBatch(1L, request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(contactDetailsRepository, never()).findByUserIdAndIdIn(anyLong(), any());
+    }
+}
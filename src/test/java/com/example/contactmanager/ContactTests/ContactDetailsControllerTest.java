@@ -2,9 +2,14 @@ package com.example.contactmanager.ContactTests;
 
 import com.example.contactmanager.controllers.ContactDetailsController;
 import com.example.contactmanager.dto.*;
+import com.example.contactmanager.globalexceptionhandler.GlobalExceptionHandler;
 import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.services.AuthenticatedUser;
+import com.example.contactmanager.services.ContactBatchService;
 import com.example.contactmanager.services.ContactDetailsService;
+import com.example.contactmanager.services.ContactSearchService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,12 +23,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.Arrays;
 import java.util.List;
 
+import java.util.ArrayList;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -39,13 +54,31 @@ class ContactDetailsControllerTest
     @Mock
     private ContactDetailsService contactDetailsService;
 
+    @Mock
+    private ContactSearchService contactSearchService;
+
+    @Mock
+    private ContactBatchService contactBatchService;
+
     @InjectMocks
     private ContactDetailsController contactDetailsController;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        mockMvc = MockMvcBuilders.standaloneSetup(contactDetailsController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(contactDetailsController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        // Requests run as user 1, the id the JWT filter would have taken from the token
+        AuthenticatedUser principal = new AuthenticatedUser(1L, "john.doe@example.com", "", new ArrayList<>());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -76,7 +109,7 @@ class ContactDetailsControllerTest
         List<ContactDetails> contacts = Arrays.asList(contact1, contact2);
         ContactListResponse response = new ContactListResponse(contacts, "Contacts fetched successfully", true);
 
-        when(contactDetailsService.getAllContacts()).thenReturn(new ResponseEntity<>(response, HttpStatus.OK));
+        when(contactDetailsService.getAllContacts(0, 100)).thenReturn(new ResponseEntity<>(response, HttpStatus.OK));
 
         mockMvc.perform(get("/getContacts").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
@@ -143,7 +176,7 @@ class ContactDetailsControllerTest
         ContactDetailResponse response = new ContactDetailResponse(contactDetails, "Contact fetched successfully", true);
         ObjectMapper objectMapper = new ObjectMapper();
 
-        when(contactDetailsService.getAContact(contactId))
+        when(contactDetailsService.getAContact(1L, contactId, null))
                 .thenReturn(new ResponseEntity<>(response, HttpStatus.OK));
 
         // Act & Assert: Perform POST request and verify status is 200 OK
@@ -166,7 +199,7 @@ class ContactDetailsControllerTest
 
         SearchResponse response = new SearchResponse(contacts, "Contacts Found Successfully", true);
 
-        when(contactDetailsService.findByFirstName(userId, name))
+        when(contactSearchService.search(userId, name, 20))
                 .thenReturn(new ResponseEntity<>(response, HttpStatus.OK));
 
         // Act & Assert: Perform GET request and verify status is 200 OK
@@ -188,7 +221,7 @@ class ContactDetailsControllerTest
 
         ContactUpdateResponse response = new ContactUpdateResponse("Contact Updated Successfully", true);
 
-        when(contactDetailsService.updateContact(contactId, updateContactRequest))
+        when(contactDetailsService.updateContact(1L, contactId, updateContactRequest))
                 .thenReturn(new ResponseEntity<>(response, HttpStatus.OK));
         ObjectMapper objectMapper = new ObjectMapper();
 
@@ -199,5 +232,29 @@ class ContactDetailsControllerTest
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void testApplyBatchStatus() throws Exception {
+        ContactBatchRequest request = new ContactBatchRequest(Arrays.asList(
+                new ContactBatchOperation(ContactBatchOperation.Type.DELETE, 101L, null)));
+        ContactBatchResponse response = new ContactBatchResponse(Arrays.asList(
+                new ContactBatchItemResult(0, ContactBatchOperation.Type.DELETE, 101L, 200, "Contact Deleted Successfully", true)),
+                0, 0, 1, 0, "Batch applied successfully", true);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        when(contactBatchService.applyBatch(eq(1L), any(ContactBatchRequest.class)))
+                .thenReturn(new ResponseEntity<>(response, HttpStatus.OK));
+
+        mockMvc.perform(post("/contacts/batch")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testExportOtherUsersContactsForbidden() throws Exception {
+        mockMvc.perform(get("/export/{userID}", 2L))
+                .andExpect(status().isForbidden());
 
+        verify(contactDetailsService, never()).exportContacts(anyLong(), any());
+    }
 }
@@ -0,0 +1,132 @@
+package com.example.contactmanager.ContactTests;
+
+import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.example.contactmanager.services.ContactSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContactSearchIndexTest
+{
+    @Mock
+    ContactDetailsRepository contactDetailsRepository;
+
+    ContactSearchIndex contactSearchIndex;
+
+    ContactDetails john = contact(1L, "John", "Doe", "john.personal@example.com");
+    ContactDetails jane = contact(2L, "Jane", "Smith", "jane.personal@example.com");
+
+    @BeforeEach
+    void setUp() {
+        contactSearchIndex = new ContactSearchIndex(contactDetailsRepository, true, 1000, 100, Duration.ofMinutes(15));
+    }
+
+    @Test
+    void testSearch_BuildsOnceAndReturnsSummaries() {
+        when(contactDetailsRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(john, jane));
+
+        List<ContactDetails> results = contactSearchIndex.search(1L, "Ja", 20).get();
+        contactSearchIndex.search(1L, "do", 20);
+
+        assertEquals(List.of(2L), ids(results));
+        assertEquals("Jane", results.get(0).getFirstName());
+        assertEquals("Smith", results.get(0).getLastName());
+        assertEquals("03011234567", results.get(0).getPersonalPhoneNumber());
+        verify(contactDetailsRepository, times(1)).findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    void testSearch_MatchesSubstringsWithoutTheDatabase() {
+        when(contactDetailsRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(john, jane));
+
+        assertEquals(List.of(1L), ids(contactSearchIndex.search(1L, "ohn", 20).get()));
+        assertTrue(contactSearchIndex.search(1L, "zed", 20).get().isEmpty());
+        verify(contactDetailsRepository, times(1)).findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    void testSearch_FailedBuildIsRetried() {
+        when(contactDetailsRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(0L), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(Arrays.asList(john));
+
+        assertThrows(IllegalStateException.class, () -> contactSearchIndex.search(1L, "john", 20));
+
+        assertEquals(List.of(1L), ids(contactSearchIndex.search(1L, "john", 20).get()));
+    }
+
+    @Test
+    void testSearch_AppliesIncrementalUpdates() {
+        when(contactDetailsRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(john));
+        contactSearchIndex.search(1L, "john", 20);
+
+        contactSearchIndex.contactSaved(1L, jane);
+        contactSearchIndex.contactRemoved(1L, 1L);
+
+        assertEquals(List.of(2L), ids(contactSearchIndex.search(1L, "jane smith", 20).get()));
+        assertTrue(contactSearchIndex.search(1L, "john", 20).get().isEmpty());
+    }
+
+    @Test
+    void testSearch_TransactionalChangesApplyAfterCommit() {
+        when(contactDetailsRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(john));
+        contactSearchIndex.search(1L, "john", 20);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            contactSearchIndex.contactRemoved(1L, 1L);
+            assertEquals(List.of(1L), ids(contactSearchIndex.search(1L, "john", 20).get()));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertTrue(contactSearchIndex.search(1L, "john", 20).get().isEmpty());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testSearch_PhoneQueryDefersToDatabase() {
+        assertFalse(contactSearchIndex.search(1L, "0301123", 20).isPresent());
+        verifyNoInteractions(contactDetailsRepository);
+    }
+
+    @Test
+    void testSearch_DisabledIndexDefersToDatabase() {
+        ContactSearchIndex disabled = new ContactSearchIndex(contactDetailsRepository, false, 1000, 100, Duration.ofMinutes(15));
+
+        assertFalse(disabled.search(1L, "john", 20).isPresent());
+    }
+
+    private static List<Long> ids(List<ContactDetails> contacts) {
+        return contacts.stream().map(ContactDetails::getId).toList();
+    }
+
+    private static ContactDetails contact(long id, String firstName, String lastName, String personalEmail) {
+        ContactDetails contact = new ContactDetails(firstName, lastName, "Mr.", null, personalEmail, null, null, "03011234567");
+        contact.setId(id);
+        return contact;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.contactmanager.ContactTests;
+
+import com.example.contactmanager.customexceptions.ContactNotFoundException;
+import com.example.contactmanager.dto.SearchResponse;
+import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.example.contactmanager.services.ContactSearchIndex;
+import com.example.contactmanager.services.ContactSearchService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContactSearchServiceTest
+{
+    @Mock
+    ContactDetailsRepository contactDetailsRepository;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    ContactSearchIndex contactSearchIndex;
+
+    ContactDetails contact1 = new ContactDetails("John", "Doe", "Mr.", "john.doe@company.com", "john.personal@example.com", "03121234567", "02131234567", "03011234567");
+    ContactDetails contact2 = new ContactDetails("Johnny", "Smith", "Mr.", "johnny.smith@company.com", "johnny.personal@example.com", "03121234568", "02131234568", "03011234568");
+
+    @Test
+    void testSearch_TrigramRanksAndEscapesPattern() {
+        ContactSearchService contactSearchService = new ContactSearchService(contactDetailsRepository, jdbcTemplate, contactSearchIndex, "trigram");
+        List<ContactDetails> contacts = Arrays.asList(contact1, contact2);
+
+        when(contactDetailsRepository.searchRanked(1L, "jo_n", "%jo\\_n%", 20)).thenReturn(contacts);
+
+        ResponseEntity<SearchResponse> response = contactSearchService.search(1L, " Jo_n ", 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(contacts, response.getBody().getResults());
+    }
+
+    @Test
+    void testSearch_BasicFallbackHonoursLimit() {
+        ContactSearchService contactSearchService = new ContactSearchService(contactDetailsRepository, jdbcTemplate, contactSearchIndex, "basic");
+
+        when(contactDetailsRepository.findByUserIdAndFirstNameContainingIgnoreCase(1L, "John", PageRequest.of(0, 1))).thenReturn(Arrays.asList(contact1));
+
+        ResponseEntity<SearchResponse> response = contactSearchService.search(1L, "John", 1);
+
+        assertEquals(Arrays.asList(contact1), response.getBody().getResults());
+    }
+
+    @Test
+    void testSearch_AnsweredFromTypeaheadIndex() {
+        ContactSearchService contactSearchService = new ContactSearchService(contactDetailsRepository, jdbcTemplate, contactSearchIndex, "trigram");
+
+        when(contactSearchIndex.search(1L, "jo", 20)).thenReturn(Optional.of(Arrays.asList(contact2, contact1)));
+
+        ResponseEntity<SearchResponse> response = contactSearchService.search(1L, "jo", 20);
+
+        assertEquals(Arrays.asList(contact2, contact1), response.getBody().getResults());
+        verifyNoInteractions(contactDetailsRepository);
+    }
+
+    @Test
+    void testSearch_NoIndexMatchesIsNotFound() {
+        ContactSearchService contactSearchService = new ContactSearchService(contactDetailsRepository, jdbcTemplate, contactSearchIndex, "trigram");
+
+        when(contactSearchIndex.search(1L, "zed", 20)).thenReturn(Optional.of(Collections.emptyList()));
+
+        assertThrows(ContactNotFoundException.class, () -> contactSearchService.search(1L, "zed", 20));
+        verifyNoInteractions(contactDetailsRepository);
+    }
+
+    @Test
+    void testSearch_PhoneNumberFindsContact() {
+        ContactSearchService contactSearchService = new ContactSearchService(contactDetailsRepository, jdbcTemplate, contactSearchIndex, "trigram");
+
+        when(contactSearchIndex.search(1L, "0301123", 20)).thenReturn(Optional.empty());
+        when(contactDetailsRepository.searchRanked(1L, "0301123", "%0301123%", 20)).thenReturn(Arrays.asList(contact1));
+
+        ResponseEntity<SearchResponse> response = contactSearchService.search(1L, "0301123", 20);
+
+        assertEquals(Arrays.asList(contact1), response.getBody().getResults());
+    }
+
+    @Test
+    void testSearch_NoMatches() {
+        ContactSearchService contactSearchService = new ContactSearchService(contactDetailsRepository, jdbcTemplate, contactSearchIndex, "basic");
+
+        when(contactDetailsRepository.findByUserIdAndFirstNameContainingIgnoreCase(1L, "Zed", PageRequest.of(0, 20))).thenReturn(Collections.emptyList());
+
+        assertThrows(ContactNotFoundException.class, () -> contactSearchService.search(1L, "Zed", 20));
+    }
+}
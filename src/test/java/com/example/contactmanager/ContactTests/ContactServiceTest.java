@@ -1,29 +1,50 @@
 package com.example.contactmanager.ContactTests;
 
 import com.example.contactmanager.customexceptions.ContactNotFoundException;
-import com.example.contactmanager.customexceptions.UserNotFoundException;
+import com.example.contactmanager.customexceptions.InvalidCursorException;
 import com.example.contactmanager.dto.*;
+import com.example.contactmanager.metrics.ContactMetrics;
 import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.model.ContactTombstone;
 import com.example.contactmanager.model.User;
 import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.example.contactmanager.repositories.ContactTombstoneRepository;
 import com.example.contactmanager.repositories.UserRepository;
+import com.example.contactmanager.services.ChangeSequencer;
 import com.example.contactmanager.services.ContactDetailsService;
+import com.example.contactmanager.services.ContactSearchIndex;
+import com.example.contactmanager.services.ImportJob;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.ByteArrayInputStream;
-import java.util.ArrayList;
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +60,21 @@ class ContactServiceTest
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    ContactSearchIndex contactSearchIndex;
+
+    @Mock
+    ChangeSequencer changeSequencer;
+
+    @Mock
+    ContactTombstoneRepository contactTombstoneRepository;
+
+    @Mock
+    ContactMetrics contactMetrics;
+
+    @Spy
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     ContactDetails contact1 = new ContactDetails(
             "John",
             "Doe",
@@ -66,11 +102,14 @@ class ContactServiceTest
 
 
         List<ContactDetails> contacts = Arrays.asList(contact1, contact2);
-        when(contactDetailsRepository.findAll()).thenReturn(contacts);
+        when(contactDetailsRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(contacts));
 
-        ResponseEntity<ContactListResponse> response = contactDetailsService.getAllContacts();
+        ResponseEntity<ContactListResponse> response = contactDetailsService.getAllContacts(0, 10_000);
 
         assertEquals(contacts, response.getBody().getContactDetailsList());
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(contactDetailsRepository).findAll(pageableCaptor.capture());
+        assertEquals(100, pageableCaptor.getValue().getPageSize());
     }
 
     @Test
@@ -87,11 +126,17 @@ class ContactServiceTest
                 "02131234567",
                 "03011234567"
         );
-        when(userRepository.findById(id)).thenReturn(Optional.of(mockUser));
+        mockContactDetails.setId(42L);
+        when(userRepository.getReferenceById(id)).thenReturn(mockUser);
         when(contactDetailsRepository.save(mockContactDetails)).thenReturn(mockContactDetails);
 
         ResponseEntity<ContactCreateResponse> response = contactDetailsService.createContact(id, mockContactDetails);
 
+        assertEquals(0L, mockContactDetails.getId());
+        verify(userRepository, never()).findById(id);
+        verify(changeSequencer).contactsAdded(id, List.of(mockContactDetails));
+        assertEquals(mockUser, mockContactDetails.getUser());
+
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertEquals("Contact created Successfully", response.getBody().getMessage());
         assertTrue(response.getBody().isSuccess());
@@ -103,32 +148,19 @@ class ContactServiceTest
         Long userId = 1L;
         Long contactId = 2L;
 
-        User mockUser = new User();
-        mockUser.setId(userId);
-
-        ContactDetails mockContact = new ContactDetails(
-                "John",
-                "Doe",
-                "Mr.",
-                "john.doe@company.com",
-                "john.personal@example.com",
-                "03121234567",
-                "02131234567",
-                "03011234567"
-        );
-        mockContact.setId(contactId);
-
-        List<ContactDetails> savedContacts = new ArrayList<>();
-        savedContacts.add(mockContact);
-        mockUser.setSavedContacts(savedContacts);
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+        when(contactDetailsRepository.deleteByIdAndUserId(contactId, userId)).thenReturn(1);
 
         ResponseEntity<ContactCreateResponse> response = contactDetailsService.deleteContact(userId, contactId);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Contact Deleted Successfully", response.getBody().getMessage());
         assertTrue(response.getBody().isSuccess());
+        verify(userRepository, never()).findById(userId);
+        verify(contactDetailsRepository, never()).findById(contactId);
+        verify(contactSearchIndex).contactRemoved(userId, contactId);
+        InOrder lockOrder = inOrder(changeSequencer, contactDetailsRepository);
+        lockOrder.verify(changeSequencer).contactsDeleted(userId, List.of(contactId));
+        lockOrder.verify(contactDetailsRepository).deleteByIdAndUserId(contactId, userId);
     }
 
     @Test
@@ -136,17 +168,14 @@ class ContactServiceTest
         Long userId = 1L;
         Long contactId = 99L;
 
-        User mockUser = new User();
-        mockUser.setId(userId);
-        mockUser.setSavedContacts(new ArrayList<>());
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+        when(contactDetailsRepository.deleteByIdAndUserId(contactId, userId)).thenReturn(0);
 
-        ResponseEntity<ContactCreateResponse> response = contactDetailsService.deleteContact(userId, contactId);
+        // The exception rolls back the sequence number reserved for the delete
+        ContactNotFoundException exception = assertThrows(ContactNotFoundException.class,
+                () -> contactDetailsService.deleteContact(userId, contactId));
 
-        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        assertEquals("Contact Not Found", response.getBody().getMessage());
-        assertFalse(response.getBody().isSuccess());
+        assertEquals("Contact Not Found", exception.getMessage());
+        verify(contactSearchIndex, never()).contactRemoved(userId, contactId);
     }
 
     @Test
@@ -164,6 +193,7 @@ class ContactServiceTest
                 "03011234567"
         );
         existingContact.setId(contactId);
+        existingContact.setUser(owner(1L));
 
         ContactDetails updatedContactDetails = new ContactDetails(
                 "Johnny",
@@ -179,7 +209,7 @@ class ContactServiceTest
         when(contactDetailsRepository.findById(contactId)).thenReturn(Optional.of(existingContact));
         when(contactDetailsRepository.save(existingContact)).thenReturn(existingContact);
 
-        ResponseEntity<ContactUpdateResponse> response = contactDetailsService.updateContact(contactId, updatedContactDetails);
+        ResponseEntity<ContactUpdateResponse> response = contactDetailsService.updateContact(1L, contactId, updatedContactDetails);
 
         assertEquals("Contact Updated Successfully", response.getBody().getMessage());
         assertEquals(updatedContactDetails.getFirstName(), existingContact.getFirstName());
@@ -207,10 +237,12 @@ class ContactServiceTest
                 "03011234567"
         );
         contact.setId(contactId);
+        contact.setUser(owner(1L));
 
+        when(contactDetailsRepository.findChangeSeqByIdAndUserId(contactId, 1L)).thenReturn(Optional.of(0L));
         when(contactDetailsRepository.findById(contactId)).thenReturn(Optional.of(contact));
 
-        ResponseEntity<ContactDetailResponse> response = contactDetailsService.getAContact(contactId);
+        ResponseEntity<ContactDetailResponse> response = contactDetailsService.getAContact(1L, contactId, null);
 
         assertEquals("Contact fetched successfully", response.getBody().getMessage());
         assertTrue(response.getBody().isSuccess());
@@ -221,55 +253,302 @@ class ContactServiceTest
     void testGetAContact_ContactNotFound() {
         Long contactId = 1L;
 
-        when(contactDetailsRepository.findById(contactId)).thenReturn(Optional.empty());
+        when(contactDetailsRepository.findChangeSeqByIdAndUserId(contactId, 1L)).thenReturn(Optional.empty());
 
         ContactNotFoundException exception = assertThrows(ContactNotFoundException.class,
-                () -> contactDetailsService.getAContact(contactId));
+                () -> contactDetailsService.getAContact(1L, contactId, null));
         assertEquals("Contact not found", exception.getMessage());
     }
 
+    @Test
+    void testGetAContact_NotModified() {
+        long contactId = 1L;
+
+        when(contactDetailsRepository.findChangeSeqByIdAndUserId(contactId, 1L)).thenReturn(Optional.of(4L));
+
+        ResponseEntity<ContactDetailResponse> response = contactDetailsService.getAContact(1L, contactId, "\"c1-4\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"c1-4\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(contactDetailsRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testUpdateContact_OtherUsersContact() {
+        long contactId = 1L;
+        contact1.setId(contactId);
+        contact1.setUser(owner(2L));
+
+        when(contactDetailsRepository.findById(contactId)).thenReturn(Optional.of(contact1));
+
+        assertThrows(ContactNotFoundException.class, () -> contactDetailsService.updateContact(1L, contactId, contact2));
+        verify(contactDetailsRepository, never()).save(any(ContactDetails.class));
+        verify(changeSequencer, never()).contactsChanged(anyLong(), anyList());
+    }
+
+    private static User owner(long userId) {
+        User user = new User();
+        user.setId(userId);
+        return user;
+    }
+
+    @Test
+    void testExportContacts_NotModifiedSkipsContactQueries() {
+        long userId = 1L;
+
+        when(userRepository.findChangeSeqById(userId)).thenReturn(Optional.of(3L));
+
+        ResponseEntity<StreamingResponseBody> first = contactDetailsService.exportContacts(userId, null);
+        ResponseEntity<StreamingResponseBody> second = contactDetailsService.exportContacts(userId, first.getHeaders().getETag());
+
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        verify(contactDetailsRepository, never()).findByUserIdAndIdGreaterThanOrderByIdAsc(anyLong(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void testGetContactsById_CapsPageSize() {
+        long userId = 1L;
+
+        when(userRepository.findContactCountersById(userId)).thenReturn(Optional.of(new UserContactCounters(3L, 2L)));
+        when(contactDetailsRepository.findByUserIdOrderByLastNameAscFirstNameAscIdAsc(eq(userId), any(Pageable.class)))
+                .thenReturn(Arrays.asList(contact1, contact2));
+
+        ResponseEntity<ContactListResponse> response = contactDetailsService.getContactsById(userId, 0, 10_000, null);
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(contactDetailsRepository).findByUserIdOrderByLastNameAscFirstNameAscIdAsc(eq(userId), pageableCaptor.capture());
+        assertEquals(100, pageableCaptor.getValue().getPageSize());
+        assertEquals(2, response.getBody().getContactDetailsList().size());
+    }
+
+    @Test
+    void testGetContactsById_TotalsFromContactCount() {
+        long userId = 1L;
+
+        when(userRepository.findContactCountersById(userId)).thenReturn(Optional.of(new UserContactCounters(3L, 45L)));
+        when(contactDetailsRepository.findByUserIdOrderByLastNameAscFirstNameAscIdAsc(eq(userId), any(Pageable.class)))
+                .thenReturn(Arrays.asList(contact1, contact2));
+
+        ResponseEntity<ContactListResponse> response = contactDetailsService.getContactsById(userId, 1, 20, null);
+
+        assertEquals(45L, response.getBody().getTotalItems());
+        assertEquals(3, response.getBody().getTotalPages());
+        assertEquals(1, response.getBody().getCurrentPage());
+    }
+
+    @Test
+    void testGetContactSummaries_Success() {
+        long userId = 1L;
+        SearchedContacts summary = new SearchedContacts(1L, "Mr.", "John", "Doe", "03011234567", "john.personal@example.com");
+
+        when(contactDetailsRepository.findSummariesByUserId(eq(userId), any(Pageable.class)))
+                .thenReturn(Arrays.asList(summary));
+        when(userRepository.findContactCountersById(userId)).thenReturn(Optional.of(new UserContactCounters(3L, 1L)));
+
+        ResponseEntity<ContactSummaryListResponse> response = contactDetailsService.getContactSummaries(userId, 0, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getTotalItems());
+        assertEquals("John", response.getBody().getContacts().get(0).getFirstName());
+    }
+
+    @Test
+    void testScrollContacts_ReturnsCursorForNextWindow() {
+        long userId = 1L;
+        contact1.setId(1L);
+        contact2.setId(2L);
+
+        when(contactDetailsRepository.findByUserIdOrderByLastNameAscFirstNameAscIdAsc(eq(userId), any(Pageable.class)))
+                .thenReturn(Arrays.asList(contact1, contact2));
+
+        ResponseEntity<ContactWindowResponse> response = contactDetailsService.scrollContacts(userId, null, 1, false);
+
+        assertTrue(response.getBody().isHasNext());
+        assertEquals(Arrays.asList(contact1), response.getBody().getContactDetailsList());
+        assertNull(response.getBody().getTotalItems());
+
+        ContactCursor cursor = ContactCursor.decode(response.getBody().getNextCursor());
+        assertEquals("Doe", cursor.getLastName());
+        assertEquals("John", cursor.getFirstName());
+        assertEquals(1L, cursor.getId());
+    }
+
+    @Test
+    void testScrollContacts_ContinuesAfterCursor() {
+        long userId = 1L;
+        contact2.setId(2L);
+        String cursor = new ContactCursor("Doe", "John", 1L).encode();
+
+        when(contactDetailsRepository.findPageAfter(eq(userId), eq("Doe"), eq("John"), eq(1L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(contact2));
+        when(userRepository.findContactCountersById(userId)).thenReturn(Optional.of(new UserContactCounters(5L, 2L)));
+
+        ResponseEntity<ContactWindowResponse> response = contactDetailsService.scrollContacts(userId, cursor, 20, true);
+
+        assertFalse(response.getBody().isHasNext());
+        assertNull(response.getBody().getNextCursor());
+        assertEquals(2L, response.getBody().getTotalItems());
+    }
+
+    @Test
+    void testScrollContacts_InvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> contactDetailsService.scrollContacts(1L, "not a cursor", 20, false));
+    }
+
+    @Test
+    void testGetChanges_MergesUpdatesAndDeletesInSequenceOrder() {
+        long userId = 1L;
+        contact1.setId(1L);
+        contact1.setChangeSeq(6L);
+        contact2.setId(2L);
+        contact2.setChangeSeq(8L);
+
+        when(contactDetailsRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(eq(userId), eq(5L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(contact1, contact2));
+        when(contactTombstoneRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(eq(userId), eq(5L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(new ContactTombstone(userId, 3L, 7L, Instant.now())));
+
+        ResponseEntity<ContactChangesResponse> response = contactDetailsService.getChanges(userId, 5L, 2);
+
+        assertEquals(Arrays.asList(contact1), response.getBody().getContacts());
+        assertEquals(Arrays.asList(3L), response.getBody().getDeletedIds());
+        assertEquals(7L, response.getBody().getNextSince());
+        assertTrue(response.getBody().isHasMore());
+    }
+
+    @Test
+    void testGetChanges_NothingChanged() {
+        long userId = 1L;
+
+        when(contactDetailsRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(eq(userId), eq(9L), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(contactTombstoneRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(eq(userId), eq(9L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        ResponseEntity<ContactChangesResponse> response = contactDetailsService.getChanges(userId, 9L, 100);
+
+        assertTrue(response.getBody().getContacts().isEmpty());
+        assertEquals(9L, response.getBody().getNextSince());
+        assertFalse(response.getBody().isHasMore());
+    }
+
+    @Test
+    void testExportContacts_StreamsAllChunks() throws Exception {
+        long userId = 1L;
+        contact1.setId(1L);
+        contact2.setId(2L);
+
+        when(userRepository.findChangeSeqById(userId)).thenReturn(Optional.of(3L));
+        when(contactDetailsRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(userId), eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(contact1, contact2));
+
+        ResponseEntity<StreamingResponseBody> response = contactDetailsService.exportContacts(userId, null);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+
+        String exported = outputStream.toString();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, exported.split("BEGIN:VCARD").length - 1);
+        assertTrue(exported.contains("john.personal@example.com"));
+        assertTrue(exported.contains("jane.personal@example.com"));
+        verify(contactDetailsRepository).detachAll(Arrays.asList(contact1, contact2));
+    }
+
+    @Test
+    void testImportContacts_RejectsUnnamedCards() throws Exception {
+        long userId = 1L;
+        String vCardContent = "BEGIN:VCARD\n" +
+                "VERSION:4.0\n" +
+                "TEL;TYPE=cell:1234567890\n" +
+                "EMAIL;TYPE=home:john.doe@example.com\n" +
+                "END:VCARD";
+        ImportJob job = new ImportJob("job-1", userId);
+
+        when(userRepository.getReferenceById(userId)).thenReturn(new User());
+
+        contactDetailsService.importContacts(new ByteArrayInputStream(vCardContent.getBytes()), userId, job);
+
+        assertEquals(1, job.getCardsParsed());
+        assertEquals(0, job.getCardsInserted());
+        assertEquals(1, job.getCardsRejected());
+        verify(changeSequencer, never()).persistNewContacts(anyLong(), anyList());
+    }
+
+    @Test
+    void testImportContacts_RejectsInvalidCardsAndKeepsTheRest() throws Exception {
+        long userId = 1L;
+        String vCardContent = "BEGIN:VCARD\n" +
+                "VERSION:4.0\n" +
+                "FN:Mr.John Doe\n" +
+                "TEL;TYPE=cell:1234567890\n" +
+                "EMAIL;TYPE=home:john.doe@example.com\n" +
+                "END:VCARD\n" +
+                "BEGIN:VCARD\n" +
+                "VERSION:4.0\n" +
+                "FN:Ms.Jane Smith\n" +
+                "TEL;TYPE=cell:03011234568\n" +
+                "EMAIL;TYPE=home:jane.smith@example.com\n" +
+                "END:VCARD";
+        ImportJob job = new ImportJob("job-1", userId);
+
+        when(userRepository.getReferenceById(userId)).thenReturn(new User());
+        when(changeSequencer.persistNewContacts(eq(userId), anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).size());
+
+        contactDetailsService.importContacts(new ByteArrayInputStream(vCardContent.getBytes()), userId, job);
+
+        assertEquals(2, job.getCardsParsed());
+        assertEquals(1, job.getCardsInserted());
+        assertEquals(1, job.getCardsRejected());
+        ArgumentCaptor<List<ContactDetails>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(changeSequencer).persistNewContacts(eq(userId), batchCaptor.capture());
+        assertEquals("Jane", batchCaptor.getValue().get(0).getFirstName());
+    }
+
     @Test
     void testImportContacts_Success() throws Exception {
         // Mock data
         long userId = 1L;
         User mockUser = new User();
         mockUser.setId(userId);
-        mockUser.setSavedContacts(new ArrayList<>());
 
         String vCardContent = "BEGIN:VCARD\n" +
                 "VERSION:4.0\n" +
                 "FN:Mr.John Doe\n" +
-                "TEL;TYPE=cell:1234567890\n" +
-                "TEL;TYPE=work:1234567891\n" +
-                "TEL;TYPE=home:1234567892\n" +
+                "TEL;TYPE=cell:03011234567\n" +
+                "TEL;TYPE=work:02131234567\n" +
+                "TEL;TYPE=home:03121234567\n" +
                 "EMAIL;TYPE=home:john.doe@example.com\n" +
                 "EMAIL;TYPE=work:johnwork.doe@example.com\n" +
                 "END:VCARD";
 
-        MockMultipartFile file = new MockMultipartFile("file", "contacts.vcf", "text/vcard",
-                new ByteArrayInputStream(vCardContent.getBytes()));
+        ImportJob job = new ImportJob("job-1", userId);
 
         // Mock behavior
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+        when(userRepository.getReferenceById(userId)).thenReturn(mockUser);
+        when(changeSequencer.persistNewContacts(eq(userId), anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).size());
 
         // Call service method
-        ResponseEntity<ErrorResponse> response = contactDetailsService.importContacts(file, userId);
+        contactDetailsService.importContacts(new ByteArrayInputStream(vCardContent.getBytes()), userId, job);
 
         // Assertions
-        assertNotNull(response);
-        assertEquals(200, response.getStatusCodeValue());
-        assertEquals("Contacts imported successfully", response.getBody().getMessage());
-        assertEquals(1, mockUser.getSavedContacts().size());
+        assertEquals(1, job.getCardsParsed());
+        assertEquals(1, job.getCardsInserted());
+        assertEquals(0, job.getCardsRejected());
+
+        ArgumentCaptor<List<ContactDetails>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(changeSequencer).persistNewContacts(eq(userId), batchCaptor.capture());
+        assertEquals(1, batchCaptor.getValue().size());
 
         // Verify contact details
-        ContactDetails contact = mockUser.getSavedContacts().get(0);
-        assertEquals("Mr", contact.getTitle());
+        ContactDetails contact = batchCaptor.getValue().get(0);
+        assertEquals("Mr.", contact.getTitle());
         assertEquals("John", contact.getFirstName());
         assertEquals("Doe", contact.getLastName());
-        assertEquals("1234567890", contact.getPersonalPhoneNumber());
+        assertEquals("03011234567", contact.getPersonalPhoneNumber());
         assertEquals("john.doe@example.com", contact.getPersonalEmail());
+        assertEquals(mockUser, contact.getUser());
 
     }
 
-
 }
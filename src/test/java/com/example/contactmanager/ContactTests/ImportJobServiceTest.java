@@ -0,0 +1,139 @@
+package com.example.contactmanager.ContactTests;
+
+import com.example.contactmanager.customexceptions.ImportJobNotFoundException;
+import com.example.contactmanager.dto.ImportJobResponse;
+import com.example.contactmanager.metrics.ContactMetrics;
+import com.example.contactmanager.model.User;
+import com.example.contactmanager.repositories.ContactDetailsRepository;
+import com.example.contactmanager.repositories.ContactTombstoneRepository;
+import com.example.contactmanager.repositories.UserRepository;
+import com.example.contactmanager.services.ChangeSequencer;
+import com.example.contactmanager.services.ContactDetailsService;
+import com.example.contactmanager.services.ContactSearchIndex;
+import com.example.contactmanager.services.ImportJobService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportJobServiceTest
+{
+    @Mock
+    ContactDetailsService contactDetailsService;
+
+    @Mock
+    ContactMetrics contactMetrics;
+
+    @Mock
+    ContactDetailsRepository contactDetailsRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    ContactSearchIndex contactSearchIndex;
+
+    @Mock
+    ChangeSequencer changeSequencer;
+
+    @Mock
+    ContactTombstoneRepository contactTombstoneRepository;
+
+    ImportJobService importJobService;
+
+    @BeforeEach
+    void setUp() {
+        importJobService = new ImportJobService(contactDetailsService, contactMetrics, 1, 1, Duration.ofHours(1), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importJobService.shutdown();
+    }
+
+    @Test
+    void testSubmitImport_ReturnsJobId() throws Exception {
+        long userId = 1L;
+        MockMultipartFile file = new MockMultipartFile("file", "contacts.vcf", "text/vcard", "BEGIN:VCARD\nEND:VCARD".getBytes());
+
+        ResponseEntity<ImportJobResponse> response = importJobService.submitImport(file, userId);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertNotNull(response.getBody().getJobId());
+        verify(contactDetailsService, timeout(5000)).importContacts(any(), anyLong(), any());
+        verify(contactMetrics, timeout(5000)).importFinished(eq((long) file.getSize()), eq(0L), eq(0L));
+
+        ResponseEntity<ImportJobResponse> status = importJobService.getImportStatus(userId, response.getBody().getJobId());
+        assertEquals(HttpStatus.OK, status.getStatusCode());
+    }
+
+    @Test
+    void testSubmitImport_InvalidCardIsRejectedAndJobCompletes() {
+        long userId = 1L;
+        ContactDetailsService importingService = new ContactDetailsService(contactDetailsRepository, userRepository, contactSearchIndex,
+                changeSequencer, contactTombstoneRepository, contactMetrics, Validation.buildDefaultValidatorFactory().getValidator());
+        ImportJobService jobService = new ImportJobService(importingService, contactMetrics, 1, 1, Duration.ofHours(1), false);
+        String vCardContent = "BEGIN:VCARD\n" +
+                "VERSION:4.0\n" +
+                "FN:Mr.John Doe\n" +
+                "TEL;TYPE=cell:1234567890\n" +
+                "EMAIL;TYPE=home:john.doe@example.com\n" +
+                "END:VCARD\n" +
+                "BEGIN:VCARD\n" +
+                "VERSION:4.0\n" +
+                "FN:Ms.Jane Smith\n" +
+                "TEL;TYPE=cell:03011234568\n" +
+                "EMAIL;TYPE=home:jane.smith@example.com\n" +
+                "END:VCARD";
+        MockMultipartFile file = new MockMultipartFile("file", "contacts.vcf", "text/vcard", vCardContent.getBytes());
+
+        when(userRepository.getReferenceById(userId)).thenReturn(new User());
+        when(changeSequencer.persistNewContacts(eq(userId), anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).size());
+
+        try {
+            ResponseEntity<ImportJobResponse> response = jobService.submitImport(file, userId);
+            verify(contactMetrics, timeout(5000)).importFinished(eq((long) file.getSize()), eq(1L), eq(1L));
+
+            ImportJobResponse status = jobService.getImportStatus(userId, response.getBody().getJobId()).getBody();
+            assertEquals("COMPLETED", status.getStatus());
+            assertEquals(2, status.getCardsParsed());
+            assertEquals(1, status.getCardsInserted());
+            assertEquals(1, status.getCardsRejected());
+        } finally {
+            jobService.shutdown();
+        }
+    }
+
+    @Test
+    void testGetImportStatus_OtherUsersJob() {
+        MockMultipartFile file = new MockMultipartFile("file", "contacts.vcf", "text/vcard", "BEGIN:VCARD\nEND:VCARD".getBytes());
+
+        ResponseEntity<ImportJobResponse> response = importJobService.submitImport(file, 1L);
+
+        assertThrows(ImportJobNotFoundException.class, () -> importJobService.getImportStatus(2L, response.getBody().getJobId()));
+    }
+
+    @Test
+    void testGetImportStatus_JobNotFound() {
+        assertThrows(ImportJobNotFoundException.class, () -> importJobService.getImportStatus(1L, "missing"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.contactmanager.ContactTests;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.ResourcePropertySource;
+
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The settings the production profile ends up with, bound the way Spring Boot binds them onto the
+// Hikari pool and the JPA properties, with the profile overriding application.properties. No database needed.
+class ProductionProfileSettingsTest
+{
+    Binder binder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MutablePropertySources sources = new MutablePropertySources();
+        sources.addLast(new ResourcePropertySource(new ClassPathResource("application-production.properties")));
+        sources.addLast(new ResourcePropertySource(new ClassPathResource("application.properties")));
+        binder = new Binder(ConfigurationPropertySources.from(sources), new PropertySourcesPlaceholdersResolver(sources));
+    }
+
+    @Test
+    void testConnectionPool_FixedSizeWithoutAutoCommit() {
+        HikariDataSource pool = binder.bind("spring.datasource.hikari", Bindable.ofInstance(new HikariDataSource())).get();
+        Map<String, String> hibernate = jpaProperties().getProperties();
+
+        assertEquals(20, pool.getMaximumPoolSize());
+        assertEquals(pool.getMaximumPoolSize(), pool.getMinimumIdle());
+        assertEquals(5000, pool.getConnectionTimeout());
+        // Hibernate skips switching auto-commit off only because the pool already hands out such connections
+        assertFalse(pool.isAutoCommit());
+        assertEquals("true", hibernate.get("hibernate.connection.provider_disables_autocommit"));
+    }
+
+    @Test
+    void testDriverProperties_RewriteBatchesAndPrepareStatements() {
+        HikariDataSource pool = binder.bind("spring.datasource.hikari", Bindable.ofInstance(new HikariDataSource())).get();
+        Properties driver = pool.getDataSourceProperties();
+
+        assertEquals("true", driver.getProperty("reWriteBatchedInserts"));
+        assertEquals("3", driver.getProperty("prepareThreshold"));
+        assertEquals("512", driver.getProperty("preparedStatementCacheQueries"));
+        assertEquals("8", driver.getProperty("preparedStatementCacheSizeMiB"));
+    }
+
+    @Test
+    void testHibernate_BatchesWritesAndKeepsSessionsShort() {
+        JpaProperties jpa = jpaProperties();
+        Map<String, String> hibernate = jpa.getProperties();
+
+        // Matches the allocation size of the contact id sequence, so a batch needs at most one sequence call
+        assertEquals("50", hibernate.get("hibernate.jdbc.batch_size"));
+        assertEquals("true", hibernate.get("hibernate.order_inserts"));
+        assertEquals("true", hibernate.get("hibernate.order_updates"));
+        assertEquals("true", hibernate.get("hibernate.query.in_clause_parameter_padding"));
+        assertEquals("false", hibernate.get("hibernate.generate_statistics"));
+        assertEquals("false", hibernate.get("hibernate.boot.allow_jdbc_metadata_access"));
+        assertFalse(jpa.getOpenInView());
+    }
+
+    @Test
+    void testManagementEndpoints_OnTheirOwnPort() {
+        int serverPort = binder.bind("server.port", Integer.class).orElse(8080);
+
+        assertNotEquals(serverPort, binder.bind("management.server.port", Integer.class).get());
+        assertFalse(binder.bind("contactmanager.db.statement-headers.enabled", Boolean.class).get());
+    }
+
+    private JpaProperties jpaProperties() {
+        return binder.bind("spring.jpa", JpaProperties.class).get();
+    }
+}
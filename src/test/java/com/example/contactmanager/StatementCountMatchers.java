@@ -0,0 +1,41 @@
+package com.example.contactmanager;
+
+import com.example.contactmanager.metrics.RequestMetricsFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc matchers on the SQL statement count that {@link RequestMetricsFilter} reports for a request.
+ * The filter has to be part of the MockMvc setup, e.g. {@code standaloneSetup(...).addFilters(filter)}
+ * or a {@code @SpringBootTest} with {@code @AutoConfigureMockMvc}. They lock an endpoint's statement
+ * count so that an N+1 regression fails the test.
+ */
+public final class StatementCountMatchers
+{
+    private StatementCountMatchers()
+    {
+    }
+
+    public static ResultMatcher statementCount(long expected)
+    {
+        return result -> assertEquals(expected, statementCountOf(result.getResponse().getHeader(RequestMetricsFilter.STATEMENT_COUNT_HEADER)),
+                "SQL statements executed by the request");
+    }
+
+    public static ResultMatcher maxStatementCount(long max)
+    {
+        return result -> {
+            long count = statementCountOf(result.getResponse().getHeader(RequestMetricsFilter.STATEMENT_COUNT_HEADER));
+            assertTrue(count <= max, "Request executed " + count + " SQL statements, expected at most " + max);
+        };
+    }
+
+    private static long statementCountOf(String header)
+    {
+        assertNotNull(header, "No " + RequestMetricsFilter.STATEMENT_COUNT_HEADER + " header; is RequestMetricsFilter installed?");
+        return Long.parseLong(header);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.contactmanager.UserTests;
+
+import com.example.contactmanager.model.User;
+import com.example.contactmanager.services.JwtService;
+import com.example.contactmanager.services.VerifiedToken;
+import com.example.contactmanager.services.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest
+{
+    JwtService jwtService = new JwtService();
+
+    @Test
+    void testGeneratedTokenParsesOnce() {
+        User user = new User("Adnan", "Sajid", "adnansajid877@gmail.com", "hashedPassword");
+        user.setId(7L);
+
+        String token = jwtService.generateToken(user);
+        Claims claims = jwtService.parseClaims(token);
+
+        assertEquals("adnansajid877@gmail.com", claims.getSubject());
+        assertEquals(7L, claims.get("user_id", Long.class));
+        UserDetails userDetails = new org.springframework.security.core.userdetails.User("adnansajid877@gmail.com", "", new ArrayList<>());
+        assertTrue(jwtService.validateToken(jwtService.verify(token), userDetails));
+    }
+
+    @Test
+    void testVerifiedTokenIsCachedUntilReuse() {
+        User user = new User("Adnan", "Sajid", "adnansajid877@gmail.com", "hashedPassword");
+        user.setId(7L);
+        String token = jwtService.generateToken(user);
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(true, 10, Duration.ofHours(1));
+        AtomicInteger verifications = new AtomicInteger();
+
+        VerifiedToken first = verifiedTokenCache.getOrVerify(token, value -> {
+            verifications.incrementAndGet();
+            return jwtService.verify(value);
+        });
+        VerifiedToken second = verifiedTokenCache.getOrVerify(token, value -> {
+            verifications.incrementAndGet();
+            return jwtService.verify(value);
+        });
+
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+        assertEquals(7L, first.getUserId());
+        assertEquals(1, verifiedTokenCache.getCache().stats().hitCount());
+        assertEquals(1, verifiedTokenCache.getCache().stats().missCount());
+    }
+
+    @Test
+    void testTokenForAnotherUserIsRejected() {
+        User user = new User("Adnan", "Sajid", "adnansajid877@gmail.com", "hashedPassword");
+
+        String token = jwtService.generateToken(user);
+        UserDetails otherUser = new org.springframework.security.core.userdetails.User("john.doe@example.com", "", new ArrayList<>());
+
+        assertFalse(jwtService.validateToken(jwtService.verify(token), otherUser));
+    }
+
+    @Test
+    void testTokenSignedWithAnotherKeyIsRejected() {
+        User user = new User("Adnan", "Sajid", "adnansajid877@gmail.com", "hashedPassword");
+
+        String token = new JwtService().generateToken(user);
+
+        assertThrows(JwtException.class, () -> jwtService.parseClaims(token));
+    }
+}
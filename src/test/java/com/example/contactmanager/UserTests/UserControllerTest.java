@@ -2,9 +2,12 @@ package com.example.contactmanager.UserTests;
 
 import com.example.contactmanager.controllers.UserController;
 import com.example.contactmanager.dto.*;
+import com.example.contactmanager.globalexceptionhandler.GlobalExceptionHandler;
 import com.example.contactmanager.model.User;
+import com.example.contactmanager.services.AuthenticatedUser;
 import com.example.contactmanager.services.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,13 +19,20 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.ArrayList;
+import java.util.Map;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +51,19 @@ class UserControllerTest
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        // Requests run as user 1, the id the JWT filter would have taken from the token
+        AuthenticatedUser principal = new AuthenticatedUser(1L, "john.doe@example.com", "", new ArrayList<>());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
 
@@ -49,15 +71,17 @@ class UserControllerTest
     void testGetUserDataStatus() throws Exception {
         // Arrange: Create a dummy user object with the constructor
         long userId = 1L;
-        User user = new User("John", "Doe", "john.doe@example.com", "password123");
+        UserProfileResponse profile = new UserProfileResponse(userId, "John", "Doe", "john.doe@example.com", 3);
 
-        // Mock the service method to return the dummy user with a 200 OK status
+        // Mock the service method to return the dummy profile with a 200 OK status
         when(userService.getData(anyLong()))
-                .thenReturn(new ResponseEntity<>(user, HttpStatus.OK));
+                .thenReturn(new ResponseEntity<>(profile, HttpStatus.OK));
 
         // Act & Assert: Perform POST request and verify status is 200 OK
         mockMvc.perform(post("/getDetails/{user_id}", userId))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contactCount").value(3))
+                .andExpect(jsonPath("$.password").doesNotExist());
     }
 
     @Test
@@ -72,7 +96,8 @@ class UserControllerTest
         // Act & Assert: Perform POST request to /signup and verify the status is 201 Created
         mockMvc.perform(post("/signup")
                         .contentType("application/json")
-                        .content(objectMapper.writeValueAsString(user)))
+                        .content(objectMapper.writeValueAsString(Map.of("firstName", user.getFirstName(), "lastName", user.getLastName(),
+                                "email", user.getEmail(), "password", user.getPassword()))))
                 .andExpect(status().isCreated());
     }
 
@@ -5,9 +5,11 @@ import com.example.contactmanager.customexceptions.UserNotFoundException;
 import com.example.contactmanager.dto.ChangePasswordResponse;
 import com.example.contactmanager.dto.LoginResponse;
 import com.example.contactmanager.dto.SignupResponse;
+import com.example.contactmanager.dto.UserProfileResponse;
 import com.example.contactmanager.model.User;
 import com.example.contactmanager.repositories.UserRepository;
 import com.example.contactmanager.services.JwtService;
+import com.example.contactmanager.services.PrincipalCache;
 import com.example.contactmanager.services.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +25,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,15 +44,26 @@ class UserServiceTest
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    PrincipalCache principalCache;
+
     @Test
     void getUserDataTest() {
         long id = 123;
-        User user = new User("Adnan", "Sajid", "adnansajid877@gmail.com", "adnan123");
+        UserProfileResponse profile = new UserProfileResponse(id, "Adnan", "Sajid", "adnansajid877@gmail.com", 42);
 
-        when(userRepository.findById(id)).thenReturn(Optional.of(user));
+        when(userRepository.findProfileById(id)).thenReturn(Optional.of(profile));
 
-        ResponseEntity<User> expectedResponse = new ResponseEntity<>(user, HttpStatus.OK);
+        ResponseEntity<UserProfileResponse> expectedResponse = new ResponseEntity<>(profile, HttpStatus.OK);
         assertEquals(expectedResponse, userService.getData(id));
+        verify(userRepository, never()).findById(id);
+    }
+
+    @Test
+    void getUserDataTest_UserNotFound() {
+        when(userRepository.findProfileById(123L)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> userService.getData(123L));
     }
 
     @Test
@@ -131,6 +146,7 @@ class UserServiceTest
 
         assertEquals("Password Changed Successfully", response.getBody().getMessage());
         assertTrue(response.getBody().isSuccess());
+        verify(principalCache).removeUserFromCache(email);
     }
 
     @Test
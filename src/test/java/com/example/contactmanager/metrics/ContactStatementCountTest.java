@@ -0,0 +1,96 @@
+package com.example.contactmanager.metrics;
+
+import com.example.contactmanager.model.ContactDetails;
+import com.example.contactmanager.model.User;
+import com.example.contactmanager.repositories.UserRepository;
+import com.example.contactmanager.services.ChangeSequencer;
+import com.example.contactmanager.services.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.example.contactmanager.StatementCountMatchers.statementCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement counts of real endpoints against a throwaway Postgres container migrated by Flyway, through the
+ * whole filter chain and the counting DataSource. A change that adds a query per contact, or loads the user's
+ * contact list, breaks the count. Skipped where Docker is not available.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class ContactStatementCountTest
+{
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ChangeSequencer changeSequencer;
+
+    @Autowired
+    JwtService jwtService;
+
+    User user;
+
+    String token;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Statement", "Count", "statements-" + UUID.randomUUID() + "@example.com", "password123"));
+        List<ContactDetails> contacts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ContactDetails contact = new ContactDetails("John" + i, "Doe", "Mr.", "john" + i + ".doe@company.com",
+                    "john" + i + "@example.com", "03121234567", "02131234567", "03011234567");
+            contact.setUser(user);
+            contacts.add(contact);
+        }
+        changeSequencer.persistNewContacts(user.getId(), contacts);
+        token = jwtService.generateToken(user);
+    }
+
+    @Test
+    void testGetContactsById_PageIsTwoStatements() throws Exception {
+        // The first request also resolves the principal; later ones find it in the principal cache
+        getContactsById().andExpect(status().isOk());
+
+        // One query for the user's counters, one for the page, whatever the page size
+        getContactsById()
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems").value(20))
+                .andExpect(statementCount(2));
+    }
+
+    private ResultActions getContactsById() throws Exception {
+        return mockMvc.perform(post("/getContactsById")
+                .param("size", "20")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(Map.of("id", user.getId()))));
+    }
+}
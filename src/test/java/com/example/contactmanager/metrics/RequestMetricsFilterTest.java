@@ -0,0 +1,122 @@
+package com.example.contactmanager.metrics;
+
+import com.example.contactmanager.controllers.UserController;
+import com.example.contactmanager.dto.LoginRequest;
+import com.example.contactmanager.dto.LoginResponse;
+import com.example.contactmanager.services.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static com.example.contactmanager.StatementCountMatchers.maxStatementCount;
+import static com.example.contactmanager.StatementCountMatchers.statementCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RequestMetricsFilterTest
+{
+    @Mock
+    UserService userService;
+
+    @Mock
+    DataSource targetDataSource;
+
+    @Mock
+    Connection connection;
+
+    @Mock
+    PreparedStatement preparedStatement;
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    DataSource dataSource;
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        dataSource = new StatementCountingDataSource(targetDataSource);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userService))
+                .addFilters(new RequestMetricsFilter(registry, 25, 10, true))
+                .build();
+    }
+
+    @Test
+    void testLogin_ReportsStatementsExecuted() throws Exception {
+        when(userService.verifyUser(anyString(), anyString())).thenAnswer(invocation -> {
+            try (Connection c = dataSource.getConnection()) {
+                c.prepareStatement("select * from users where email = ?").executeQuery();
+                c.prepareStatement("select * from users where email = ?").executeQuery();
+            }
+            return new ResponseEntity<>(new LoginResponse("token", "User logged in successfully", true), HttpStatus.OK);
+        });
+
+        mockMvc.perform(post("/login")
+                        .contentType("application/json")
+                        .content(new ObjectMapper().writeValueAsString(new LoginRequest("john.doe@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(2))
+                .andExpect(maxStatementCount(2))
+                .andExpect(header().exists(RequestMetricsFilter.STATEMENT_TIME_HEADER));
+
+        assertEquals(1, registry.get("contactmanager.db.statements").tag("uri", "/login").summary().count());
+        assertEquals(2.0, registry.get("contactmanager.db.statements").tag("uri", "/login").summary().totalAmount());
+    }
+
+    @Test
+    void testLogin_OverStatementCountFails() throws Exception {
+        when(userService.verifyUser(anyString(), anyString())).thenAnswer(invocation -> {
+            try (Connection c = dataSource.getConnection()) {
+                for (int i = 0; i < 3; i++) {
+                    c.prepareStatement("select * from contact_details where user_id = ?").executeQuery();
+                }
+            }
+            return new ResponseEntity<>(new LoginResponse("token", "User logged in successfully", true), HttpStatus.OK);
+        });
+
+        assertThrows(AssertionError.class, () -> mockMvc.perform(post("/login")
+                        .contentType("application/json")
+                        .content(new ObjectMapper().writeValueAsString(new LoginRequest("john.doe@example.com", "password123"))))
+                .andExpect(maxStatementCount(2)));
+    }
+
+    @Test
+    void testStatementsOutsideRequest_NotCounted() throws Exception {
+        try (Connection c = dataSource.getConnection()) {
+            c.prepareStatement("select 1").executeQuery();
+        }
+
+        when(userService.verifyUser(anyString(), anyString()))
+                .thenReturn(new ResponseEntity<>(new LoginResponse("token", "User logged in successfully", true), HttpStatus.OK));
+
+        mockMvc.perform(post("/login")
+                        .contentType("application/json")
+                        .content(new ObjectMapper().writeValueAsString(new LoginRequest("john.doe@example.com", "password123"))))
+                .andExpect(statementCount(0));
+    }
+}